@@ -1,9 +1,12 @@
 package com.ms.gamemanagement;
 
+import com.ms.gamemanagement.config.GameRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(GameRuntimeHints.class)
 public class GameManagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,47 @@
+package com.ms.gamemanagement.cli;
+
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.modal.ImportReport;
+import com.ms.gamemanagement.service.GameImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Imports a file at startup when the application is run with {@code --import=<file>}, optionally with
+ * {@code --import-format=CSV|NDJSON}. Add {@code --spring.main.web-application-type=none} for a one-shot
+ * import that exits once the file is loaded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameImportCommand implements ApplicationRunner {
+
+    static final String IMPORT_OPTION = "import";
+    static final String FORMAT_OPTION = "import-format";
+
+    private final GameImportService gameImportService;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> files = args.getOptionValues(IMPORT_OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+        List<String> formats = args.getOptionValues(FORMAT_OPTION);
+        for (String file : files) {
+            ImportFormat format = formats != null && !formats.isEmpty()
+                    ? ImportFormat.valueOf(formats.get(0).toUpperCase(Locale.ROOT))
+                    : ImportFormat.fromFileName(file);
+            ImportReport report = gameImportService.importFile(Path.of(file), format);
+            report.errors().forEach(error -> log.warn("{}: {}", file, error));
+        }
+    }
+
+}
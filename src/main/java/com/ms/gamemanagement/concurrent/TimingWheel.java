@@ -0,0 +1,214 @@
+package com.ms.gamemanagement.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: timers are hashed into slots by deadline, so scheduling and cancelling are O(1)
+ * however many timers are pending. Level 0 has one slot per tick; each higher level has slots
+ * {@code wheelSize} times wider, and a slot is cascaded into the level below when time reaches it. Deadlines
+ * are rounded up to whole ticks, so a timer never fires early and at most one tick late. Thread-safe.
+ *
+ * @param <T> the payload of a timer
+ */
+public class TimingWheel<T> {
+
+    private static final int MAX_LEVELS = 10;
+
+    /** A pending timer; a node in its slot's circular list. */
+    public static final class Timeout<T> {
+
+        private final long deadlineTick;
+        private final T value;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineTick, T value) {
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        private boolean isPending() {
+            return next != null;
+        }
+    }
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Timeout<T>[][] levels;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  the resolution of the wheel in milliseconds
+     * @param wheelSize   slots per level, a power of two
+     * @param startMillis the current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new Timeout[Math.min(MAX_LEVELS, 63 / bits)][];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules a timer. Deadlines that have already passed fire on the next tick.
+     */
+    public synchronized Timeout<T> schedule(long deadlineMillis, T value) {
+        long deadlineTick = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick);
+        Timeout<T> timeout = new Timeout<>(deadlineTick, value);
+        insert(timeout, currentTick);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a timer.
+     *
+     * @return {@code false} if the timer had already fired or been cancelled
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves time forward, returning the payloads of all timers whose deadline is at or before {@code nowMillis}
+     * in deadline order.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick <= nowTick) {
+            if (size == 0) {
+                currentTick = nowTick + 1;
+                break;
+            }
+            cascade(currentTick);
+            expire(currentTick, expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void clear() {
+        for (Timeout<T>[] level : levels) {
+            if (level != null) {
+                for (Timeout<T> sentinel : level) {
+                    Timeout<T> node = detach(sentinel);
+                    while (node != null) {
+                        Timeout<T> next = node.next;
+                        node.previous = node.next = null;
+                        node = next;
+                    }
+                }
+            }
+        }
+        size = 0;
+    }
+
+    private void insert(Timeout<T> timeout, long nowTick) {
+        long delta = timeout.deadlineTick - nowTick;
+        int level = 0;
+        while (level < levels.length - 1 && delta >= 1L << ((level + 1) * bits)) {
+            level++;
+        }
+        Timeout<T> sentinel = slot(level, (int) ((timeout.deadlineTick >>> (level * bits)) & mask));
+        timeout.previous = sentinel.previous;
+        timeout.next = sentinel;
+        sentinel.previous.next = timeout;
+        sentinel.previous = timeout;
+    }
+
+    /**
+     * Redistributes the higher-level slots that start at this tick, coarsest first, so their timers end up
+     * in the level that matches their remaining delay.
+     */
+    private void cascade(long tick) {
+        int top = 0;
+        while (top + 1 < levels.length && (tick & ((1L << ((top + 1) * bits)) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            if (levels[level] != null) {
+                reinsert(detach(slot(level, (int) ((tick >>> (level * bits)) & mask))), tick, null);
+            }
+        }
+    }
+
+    private void expire(long tick, List<T> expired) {
+        reinsert(detach(slot(0, (int) (tick & mask))), tick, expired);
+    }
+
+    private void reinsert(Timeout<T> node, long tick, List<T> expired) {
+        while (node != null) {
+            Timeout<T> next = node.next;
+            if (expired != null && node.deadlineTick <= tick) {
+                node.previous = node.next = null;
+                size--;
+                expired.add(node.value);
+            } else {
+                insert(node, tick);
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * Empties a slot, returning its timers as a {@code null}-terminated chain.
+     */
+    private Timeout<T> detach(Timeout<T> sentinel) {
+        if (sentinel.next == sentinel) {
+            return null;
+        }
+        Timeout<T> first = sentinel.next;
+        sentinel.previous.next = null;
+        sentinel.next = sentinel.previous = sentinel;
+        return first;
+    }
+
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.previous.next = timeout.next;
+        timeout.next.previous = timeout.previous;
+        timeout.previous = timeout.next = null;
+    }
+
+    private Timeout<T> slot(int level, int index) {
+        Timeout<T>[] slots = levels[level];
+        if (slots == null) {
+            slots = newLevel();
+            levels[level] = slots;
+        }
+        return slots[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Timeout<T>[] newLevel() {
+        Timeout<T>[] slots = new Timeout[mask + 1];
+        for (int i = 0; i < slots.length; i++) {
+            Timeout<T> sentinel = new Timeout<>(Long.MIN_VALUE, null);
+            sentinel.previous = sentinel.next = sentinel;
+            slots[i] = sentinel;
+        }
+        return slots;
+    }
+
+}
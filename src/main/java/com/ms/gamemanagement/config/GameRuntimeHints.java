@@ -0,0 +1,28 @@
+package com.ms.gamemanagement.config;
+
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameVersion;
+import com.ms.gamemanagement.modal.ImportReport;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection the AOT engine cannot infer on its own: Jackson binding for the models that are read from
+ * request bodies and import files or written inside other responses, and springdoc's annotation lookup of
+ * the OpenAPI definition on {@link SwaggerConfig}.
+ */
+public class GameRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                Game.class, GameVersion.class, CatalogSnapshot.class, CatalogJob.class, ImportReport.class);
+        hints.reflection().registerType(SwaggerConfig.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
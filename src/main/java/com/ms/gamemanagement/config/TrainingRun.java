@@ -0,0 +1,69 @@
+package com.ms.gamemanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Exits right after startup when {@code games.startup.training-run=true}, once it has sent a few requests to
+ * itself so that the request path is loaded too. The {@code fast-startup} profile runs the application this
+ * way to record the classes a real start loads into an AppCDS archive.
+ *
+ * <p>The property is read at runtime rather than through a condition, because conditions are frozen when
+ * the AOT-processed context is generated.
+ */
+@Slf4j
+@Component
+public class TrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final List<String> WARM_UP_PATHS = List.of(BASE_PATH, BASE_PATH + "/Chess", "/v3/api-docs");
+
+    private final boolean enabled;
+
+    public TrainingRun(@Value("${games.startup.training-run:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        if (port != null) {
+            warmUp(port);
+        }
+        log.info(LOG_TRAINING_RUN_FINISHED);
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static void warmUp(String port) {
+        HttpClient client = HttpClient.newHttpClient();
+        for (String path : WARM_UP_PATHS) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                log.warn(LOG_WARM_UP_FAILED, path, e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+}
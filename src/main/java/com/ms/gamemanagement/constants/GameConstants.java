@@ -3,15 +3,27 @@ package com.ms.gamemanagement.constants;
 public class GameConstants {
 
     // Path mappings
+    public static final String API_PATH = "/v1/";
     public static final String BASE_PATH = "/v1/games";
     public static final String GAME_PATH = "/{name}";
+    public static final String GAME_HISTORY_PATH = "/{name}/history";
+    public static final String JOBS_PATH = "/v1/jobs";
+    public static final String IMPORT_PATH = "/v1/admin/import";
+    public static final String TENANT_GAMES_PATH = "/v1/tenants/{tenant}/games";
+    public static final String JOB_PATH = "/{id}";
+
+    // Response headers
+    public static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
 
     // HTTP status codes
     public static final int STATUS_OK = 200;
     public static final int STATUS_CREATED = 201;
+    public static final int STATUS_ACCEPTED = 202;
     public static final int STATUS_CONFLICT = 409;
     public static final int STATUS_NOT_FOUND = 404;
     public static final int STATUS_NO_CONTENT = 204;
+    public static final int STATUS_TOO_MANY_REQUESTS = 429;
+    public static final int STATUS_SERVICE_UNAVAILABLE = 503;
 
     // Log messages
     public static final String LOG_CREATED_GAME = "Created game: {}";
@@ -24,6 +36,52 @@ public class GameConstants {
     public static final String LOG_ERROR_DELETING_GAME = "Error deleting game: {}";
     public static final String LOG_RETRIEVED_ALL_GAMES = "Retrieved all games: {}";
     public static final String LOG_DELETED_ALL_GAMES = "Deleted all games. Count: {}";
+    public static final String LOG_RETRIEVED_GAME_HISTORY = "Retrieved {} versions of game: {}";
+    public static final String LOG_RETRIEVED_GAMES_AS_OF = "Retrieved {} games as of {}";
+    public static final String LOG_SUBMITTED_JOB = "Submitted {} job: {}";
+    public static final String LOG_JOB_NOT_FOUND = "Job not found with id: {}";
+    public static final String LOG_JOB_ALREADY_FINISHED = "Job {} has already finished with status {}";
+    public static final String LOG_CANCELLED_JOB = "Requested cancellation of job: {}";
+    public static final String LOG_JOB_STARTED = "Started {} job {}";
+    public static final String LOG_JOB_FINISHED = "Finished {} job {} with status {}: processed {}, affected {}";
+    public static final String LOG_JOB_FAILED = "Job {} failed";
+    public static final String LOG_CREATED_GAMES = "Created {} games, skipped {} duplicates";
+    public static final String LOG_IMPORTED_FILE = "Imported {}: {} rows, {} created, {} duplicates, {} malformed in {} ms ({} rows/s)";
+    public static final String LOG_IMPORT_FAILED = "Import of {} failed";
+    public static final String LOG_TRAINING_RUN_FINISHED = "Training run finished, exiting";
+    public static final String LOG_WARM_UP_FAILED = "Warm-up request to {} failed: {}";
+    public static final String LOG_RATE_LIMITED = "Rate limited client {} on {} budget, retry after {}s";
+    public static final String LOG_LOAD_SHED = "Shed request {} {}: {} in flight, limit {}";
+
+    // Admission control
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String BUDGET_EXPENSIVE = "expensive";
+    public static final String BUDGET_POINT = "point";
+    public static final String METRIC_REQUESTS_REJECTED = "games.requests.rejected";
+    public static final String METRIC_REQUESTS_IN_FLIGHT = "games.requests.in.flight";
+    public static final String METRIC_CONCURRENCY_LIMIT = "games.requests.concurrency.limit";
+
+    // Tenants
+    public static final String METRIC_TENANT_GAMES = "games.tenant.games";
+    public static final String METRIC_TENANT_MEMORY_USED = "games.tenant.memory.used";
+    public static final String METRIC_TENANT_REQUESTS = "games.tenant.requests";
+    public static final String METRIC_TENANT_REJECTED = "games.tenant.requests.rejected";
+    public static final String LOG_CREATED_TENANT = "Created store for tenant {}";
+    public static final String LOG_EVICTED_TENANT = "Evicted idle tenant {}";
+    public static final String LOG_TENANT_REJECTED = "Rejected request for tenant {}: {}";
+
+    // Flight recorder
+    public static final String OUTCOME_OK = "OK";
+    public static final String OUTCOME_NOT_FOUND = "NOT_FOUND";
+    public static final String OUTCOME_DUPLICATE = "DUPLICATE";
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String RECORDING_NAME = "games";
+    public static final String LOG_RECORDING_STARTED = "Started flight recording '{}' with {} settings, keeping {} or {}";
+    public static final String LOG_RECORDING_FAILED = "Could not start flight recording: {}";
+
+    // Activation schedule
+    public static final String LOG_SCHEDULED_TRANSITION = "Game {} is now {}";
+    public static final String LOG_TRANSITION_FAILED = "Could not apply scheduled transition of game {}";
 
 //  Game Service Constants
 
@@ -37,6 +95,25 @@ public class GameConstants {
     public static final String ERROR_CREATING_GAME = "Error creating game: %s";
     public static final String ERROR_DELETING_GAME = "Error deleting game: %s";
     public static final String RETRIEVED_ALL_GAMES = "Retrieved all games: %s";
+    public static final String INVALID_ACTIVATION_WINDOW = "activeFrom must be before activeUntil for game: %s";
+    public static final String HISTORY_DISABLED = "Game history is disabled";
+    public static final String HISTORY_NOT_RETAINED = "No history for %s: versions are only kept for %s";
+    public static final String HISTORY_INCOMPLETE = "No complete history for %s: some games have changed more than %d times since";
+    public static final String LOG_HISTORY_SHRUNK = "Version history outgrew {} bytes; keeping at most {} versions per game";
+
+//  Catalog Job Constants
+
+    public static final String JOB_NOT_FOUND = "Job not found with id: %s";
+    public static final String JOB_ALREADY_FINISHED = "Job %s has already finished with status %s";
+
+//  Tenant Constants
+
+    public static final String INVALID_TENANT = "Invalid tenant id: %s";
+    public static final String TOO_MANY_TENANTS = "Too many tenants, cannot create %s";
+    public static final String TENANT_CREATION_RATE_EXCEEDED = "Too many new tenants, cannot create %s yet";
+    public static final String TENANT_QUOTA_EXCEEDED = "Tenant %s exceeded its operation quota";
+    public static final String TENANT_BUSY = "Tenant %s has too many requests in flight";
+    public static final String TENANT_BUDGET_EXCEEDED = "Tenant %s would exceed its memory budget of %d bytes";
 
 
 }
@@ -0,0 +1,74 @@
+package com.ms.gamemanagement.controller;
+
+import com.ms.gamemanagement.exception.JobFinishedException;
+import com.ms.gamemanagement.exception.JobNotFoundException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(JOBS_PATH)
+@Tag(name = "Catalog Jobs Controller", description = "API endpoints for catalog-wide background jobs")
+public class CatalogJobController {
+
+    private final CatalogJobService catalogJobService;
+
+    @PostMapping
+    @Operation(summary = "Start a catalog-wide job")
+    public ResponseEntity<CatalogJob> submitJob(
+            @Parameter(description = "Kind of job to start", required = true)
+            @RequestParam JobType type) {
+        try {
+            CatalogJob job = catalogJobService.submit(type);
+            return ResponseEntity.accepted().location(URI.create(JOBS_PATH + "/" + job.getId())).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(JOB_PATH)
+    @Operation(summary = "Get a job by id")
+    public ResponseEntity<CatalogJob> getJob(
+            @Parameter(description = "Id of the job", required = true)
+            @PathVariable String id) {
+        return catalogJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all queued, running and recently finished jobs")
+    public ResponseEntity<List<CatalogJob>> getAllJobs() {
+        return ResponseEntity.ok(catalogJobService.getAllJobs());
+    }
+
+    @DeleteMapping(JOB_PATH)
+    @Operation(summary = "Cancel a job by id")
+    public ResponseEntity<CatalogJob> cancelJob(
+            @Parameter(description = "Id of the job", required = true)
+            @PathVariable String id) {
+        try {
+            return ResponseEntity.accepted().body(catalogJobService.cancelJob(id));
+        } catch (JobNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (JobFinishedException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+}
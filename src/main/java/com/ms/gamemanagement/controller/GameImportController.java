@@ -0,0 +1,43 @@
+package com.ms.gamemanagement.controller;
+
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.service.GameImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(IMPORT_PATH)
+@Tag(name = "Game Import Controller", description = "API endpoints for bulk imports of games")
+public class GameImportController {
+
+    private final GameImportService gameImportService;
+
+    @PostMapping
+    @Operation(summary = "Import games from a CSV or NDJSON file in the import directory as a background job")
+    public ResponseEntity<CatalogJob> importGames(
+            @Parameter(description = "File to import, relative to the import directory", required = true)
+            @RequestParam String file,
+            @Parameter(description = "Format of the file; derived from the extension when omitted")
+            @RequestParam(required = false) ImportFormat format) {
+        try {
+            ImportFormat importFormat = format != null ? format : ImportFormat.fromFileName(file);
+            CatalogJob job = gameImportService.submitImport(file, importFormat);
+            return ResponseEntity.accepted().location(URI.create(JOBS_PATH + "/" + job.getId())).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+}
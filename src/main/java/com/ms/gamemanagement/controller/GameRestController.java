@@ -2,7 +2,14 @@ package com.ms.gamemanagement.controller;
 
 import com.ms.gamemanagement.exception.DuplicateGameException;
 import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.HistoryNotRetainedException;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
 import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameVersion;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
 import com.ms.gamemanagement.service.GameService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +22,8 @@ import org.springframework.web.bind.annotation.*;
 import static com.ms.gamemanagement.constants.GameConstants.*;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +35,7 @@ import java.util.Optional;
 public class GameRestController {
 
     private final GameService gameService;
+    private final CatalogJobService catalogJobService;
 
     @PostMapping
     @Operation(summary = "Create a new game")
@@ -99,20 +109,62 @@ public class GameRestController {
         }
     }
 
+    @GetMapping(GAME_HISTORY_PATH)
+    @Operation(summary = "Get the retained versions of a game, oldest first")
+    public ResponseEntity<List<GameVersion>> getGameHistory(
+            @Parameter(description = "Name of the game", required = true)
+            @PathVariable String name) {
+        List<GameVersion> versions = gameService.getGameHistory(name);
+        if (versions.isEmpty()) {
+            log.warn(LOG_GAME_NOT_FOUND, name);
+            return ResponseEntity.notFound().build();
+        }
+        log.info(LOG_RETRIEVED_GAME_HISTORY, versions.size(), name);
+        return ResponseEntity.ok(versions);
+    }
+
     @GetMapping
     @Operation(summary = "Get all games")
-    public ResponseEntity<List<Game>> getAllGames() {
-        List<Game> games = gameService.getAllGames();
-        log.info(LOG_RETRIEVED_ALL_GAMES, games);
-        return ResponseEntity.ok(games);
+    public ResponseEntity<List<Game>> getAllGames(
+            @Parameter(description = "Return the games as they were at this ISO-8601 instant, within the history retention period")
+            @RequestParam(required = false) Instant asOf) {
+        if (asOf != null) {
+            List<Game> games = gameService.getAllGames(asOf);
+            log.info(LOG_RETRIEVED_GAMES_AS_OF, games.size(), asOf);
+            return ResponseEntity.ok(games);
+        }
+        CatalogSnapshot snapshot = gameService.getCatalogSnapshot();
+        log.info(LOG_RETRIEVED_ALL_GAMES, snapshot.games());
+        return ResponseEntity.ok()
+                .header(CATALOG_VERSION_HEADER, Long.toString(snapshot.version()))
+                .body(snapshot.games());
     }
 
     @DeleteMapping
     @Operation(summary = "Delete all games")
-    public ResponseEntity<Void> deleteAllGames() {
+    public ResponseEntity<CatalogJob> deleteAllGames(
+            @Parameter(description = "Run as a background job and return 202 with the job instead of waiting")
+            @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            CatalogJob job = catalogJobService.submit(JobType.DELETE_ALL);
+            log.info(LOG_SUBMITTED_JOB, job.getType(), job.getId());
+            return ResponseEntity.accepted().location(URI.create(JOBS_PATH + "/" + job.getId())).body(job);
+        }
         int numDeleted = gameService.deleteAllGames();
         log.info(LOG_DELETED_ALL_GAMES, numDeleted);
         return ResponseEntity.noContent().build();
     }
 
+    @ExceptionHandler(InvalidActivationWindowException.class)
+    public ResponseEntity<Void> invalidWindow(InvalidActivationWindowException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+
+    @ExceptionHandler(HistoryNotRetainedException.class)
+    public ResponseEntity<Void> historyNotRetained(HistoryNotRetainedException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+
 }
@@ -0,0 +1,150 @@
+package com.ms.gamemanagement.controller;
+
+import com.ms.gamemanagement.exception.DuplicateGameException;
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.exception.InvalidTenantException;
+import com.ms.gamemanagement.exception.TenantBudgetExceededException;
+import com.ms.gamemanagement.exception.TenantQuotaExceededException;
+import com.ms.gamemanagement.exception.TenantUnavailableException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.service.TenantGameService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(TENANT_GAMES_PATH)
+@Tag(name = "Tenant Games Controller", description = "API endpoints for managing the games of a tenant")
+public class TenantGameController {
+
+    private final TenantGameService tenantGameService;
+
+    @PostMapping
+    @Operation(summary = "Create a new game for a tenant")
+    public ResponseEntity<Game> createGame(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant,
+            @Validated @RequestBody Game game) {
+        try {
+            return tenantGameService.createGame(tenant, game)
+                    .map(createdGame -> ResponseEntity.status(HttpStatus.CREATED).body(createdGame))
+                    .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        } catch (DuplicateGameException e) {
+            log.warn(LOG_GAME_ALREADY_EXISTS, game.getName());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping(GAME_PATH)
+    @Operation(summary = "Get a game of a tenant by name")
+    public ResponseEntity<Game> getGame(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant,
+            @Parameter(description = "Name of the game", required = true)
+            @PathVariable String name) {
+        return tenantGameService.getGame(tenant, name)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping(GAME_PATH)
+    @Operation(summary = "Update a game of a tenant by name")
+    public ResponseEntity<Game> updateGame(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant,
+            @Parameter(description = "Name of the game", required = true)
+            @PathVariable String name,
+            @Validated @RequestBody Game updatedGame) {
+        try {
+            return tenantGameService.updateGame(tenant, name, updatedGame)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (GameNotFoundException e) {
+            log.warn(LOG_GAME_NOT_FOUND, name);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping(GAME_PATH)
+    @Operation(summary = "Delete a game of a tenant by name")
+    public ResponseEntity<Void> deleteGame(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant,
+            @Parameter(description = "Name of the game", required = true)
+            @PathVariable String name) {
+        try {
+            tenantGameService.deleteGame(tenant, name);
+            return ResponseEntity.noContent().build();
+        } catch (GameNotFoundException e) {
+            log.warn(LOG_GAME_NOT_FOUND, name);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all games of a tenant")
+    public ResponseEntity<List<Game>> getAllGames(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant) {
+        CatalogSnapshot snapshot = tenantGameService.getCatalogSnapshot(tenant);
+        return ResponseEntity.ok()
+                .header(CATALOG_VERSION_HEADER, Long.toString(snapshot.version()))
+                .body(snapshot.games());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Delete all games of a tenant")
+    public ResponseEntity<Void> deleteAllGames(
+            @Parameter(description = "Id of the tenant", required = true)
+            @PathVariable String tenant) {
+        tenantGameService.deleteAllGames(tenant);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Tenant limits apply to every endpoint alike
+
+    @ExceptionHandler(TenantQuotaExceededException.class)
+    public ResponseEntity<Void> quotaExceeded(TenantQuotaExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .build();
+    }
+
+    @ExceptionHandler(TenantUnavailableException.class)
+    public ResponseEntity<Void> unavailable(TenantUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
+    @ExceptionHandler(TenantBudgetExceededException.class)
+    public ResponseEntity<Void> budgetExceeded(TenantBudgetExceededException e) {
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).build();
+    }
+
+    @ExceptionHandler(InvalidActivationWindowException.class)
+    public ResponseEntity<Void> invalidWindow(InvalidActivationWindowException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+
+    @ExceptionHandler(InvalidTenantException.class)
+    public ResponseEntity<Void> invalidTenant(InvalidTenantException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+
+}
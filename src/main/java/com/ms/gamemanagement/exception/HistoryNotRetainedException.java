@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class HistoryNotRetainedException extends RuntimeException {
+
+    public HistoryNotRetainedException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class InvalidActivationWindowException extends RuntimeException {
+
+    public InvalidActivationWindowException(String message) {
+        super(message);
+    }
+
+}
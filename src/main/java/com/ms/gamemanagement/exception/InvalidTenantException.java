@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class InvalidTenantException extends RuntimeException {
+
+    public InvalidTenantException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class JobFinishedException extends RuntimeException {
+
+    public JobFinishedException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+
+}
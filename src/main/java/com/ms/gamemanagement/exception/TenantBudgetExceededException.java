@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class TenantBudgetExceededException extends RuntimeException {
+
+    public TenantBudgetExceededException(String message) {
+        super(message);
+    }
+
+}
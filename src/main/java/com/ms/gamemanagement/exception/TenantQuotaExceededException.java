@@ -0,0 +1,16 @@
+package com.ms.gamemanagement.exception;
+
+public class TenantQuotaExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TenantQuotaExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ms.gamemanagement.exception;
+
+public class TenantUnavailableException extends RuntimeException {
+
+    public TenantUnavailableException(String message) {
+        super(message);
+    }
+
+}
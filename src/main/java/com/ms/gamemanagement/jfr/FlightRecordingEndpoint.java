@@ -0,0 +1,71 @@
+package com.ms.gamemanagement.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code GET /actuator/jfr} dumps everything the running flight recordings hold, including the always-on
+ * recording and any started with {@code -XX:StartFlightRecording}, and downloads it as a {@code .jfr} file
+ * for JDK Mission Control or {@code jfr print}. Responds 404 when nothing is being recorded.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            if (snapshot.getSize() == 0) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+            Path file = Files.createTempFile("games-", ".jfr");
+            Files.delete(file);
+            snapshot.dump(file);
+            return new WebEndpointResponse<>(new TemporaryFileSystemResource(file));
+        }
+    }
+
+    /** A dump that deletes itself once it has been streamed to the client. */
+    private static final class TemporaryFileSystemResource extends FileSystemResource {
+
+        TemporaryFileSystemResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // Stream the dump instead of letting the server transfer the file directly, so it gets deleted
+            return false;
+        }
+    }
+
+}
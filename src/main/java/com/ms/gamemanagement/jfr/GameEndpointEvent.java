@@ -0,0 +1,48 @@
+package com.ms.gamemanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One HTTP request to the games API, from the filter chain to the last byte of the response body. Subtracting
+ * the nested {@link GameOperationEvent}s leaves the time spent in the web layer, Jackson and logging.
+ */
+@Name("com.ms.gamemanagement.GameEndpoint")
+@Label("Game Endpoint")
+@Category({"Game Management", "Web"})
+@Description("A request to one of the /v1 APIs")
+@StackTrace(false)
+@Threshold("10 ms")
+public class GameEndpointEvent extends Event {
+
+    @Label("Operation")
+    @Description("Controller method that handled the request, or the HTTP method and path if none did")
+    String operation;
+
+    @Label("Game Name Hash")
+    @Description("Hash code of the game name in the path, 0 for collection requests")
+    int nameHash;
+
+    @Label("Outcome")
+    @Description("HTTP status")
+    String outcome;
+
+    @Label("Catalog Size")
+    @Description("Stored entries when the request ended, including deleted ones awaiting compaction")
+    int catalogSize;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+}
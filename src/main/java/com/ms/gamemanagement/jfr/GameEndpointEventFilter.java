@@ -0,0 +1,201 @@
+package com.ms.gamemanagement.jfr;
+
+import com.ms.gamemanagement.service.GameCatalogMaintenance;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Emits a {@link GameEndpointEvent} per request to any {@code /v1} API: games, tenants, jobs and imports. Runs
+ * outside admission control so rejected requests are recorded too. When no recording has the event enabled the
+ * request passes straight through.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class GameEndpointEventFilter extends OncePerRequestFilter {
+
+    private final ObjectProvider<GameCatalogMaintenance> catalog;
+
+    public GameEndpointEventFilter(ObjectProvider<GameCatalogMaintenance> catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        GameEndpointEvent event = new GameEndpointEvent();
+        if (!event.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        CountingRequest countingRequest = new CountingRequest(request);
+        CountingResponse countingResponse = new CountingResponse(response);
+        event.begin();
+        try {
+            chain.doFilter(countingRequest, countingResponse);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation(request);
+                event.nameHash = nameHash(request);
+                event.outcome = Integer.toString(response.getStatus());
+                GameCatalogMaintenance maintenance = catalog.getIfAvailable();
+                event.catalogSize = maintenance != null ? maintenance.storedGameCount() : -1;
+                // Chunked bodies have no length up front; bodies rejected unread have only the declared one
+                event.requestBytes = Math.max(countingRequest.bytes, request.getContentLengthLong());
+                event.responseBytes = countingResponse.bytes;
+                event.commit();
+            }
+        }
+    }
+
+    private static String operation(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getMethod().getName();
+        }
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+
+    private static int nameHash(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("name") instanceof String name) {
+            return name.hashCode();
+        }
+        return 0;
+    }
+
+    /** Counts the bytes read from the request body stream, which is where Jackson reads. */
+    private static final class CountingRequest extends HttpServletRequestWrapper {
+
+        private long bytes;
+        private ServletInputStream inputStream;
+
+        CountingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream delegate = super.getInputStream();
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        int b = delegate.read();
+                        if (b >= 0) {
+                            bytes++;
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int read = delegate.read(b, off, len);
+                        if (read > 0) {
+                            bytes += read;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return delegate.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener listener) {
+                        delegate.setReadListener(listener);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+                };
+            }
+            return inputStream;
+        }
+    }
+
+    /** Counts the bytes written to the response body stream, which is where Jackson writes. */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytes;
+        private ServletOutputStream outputStream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+
+}
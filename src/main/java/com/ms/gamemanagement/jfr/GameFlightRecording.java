@@ -0,0 +1,81 @@
+package com.ms.gamemanagement.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Always-on flight recording. It starts from one of the JDK's built-in settings ({@code default} costs
+ * around 1% CPU), adds the game events above their thresholds and keeps a bounded window on disk, so the
+ * minutes before a latency spike can be dumped afterwards through the {@code jfr} actuator endpoint.
+ */
+@Slf4j
+@Component
+public class GameFlightRecording {
+
+    private final boolean enabled;
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Duration operationThreshold;
+    private final Duration endpointThreshold;
+
+    private Recording recording;
+
+    public GameFlightRecording(
+            @Value("${games.jfr.enabled:false}") boolean enabled,
+            @Value("${games.jfr.settings:default}") String settings,
+            @Value("${games.jfr.max-age:30m}") Duration maxAge,
+            @Value("${games.jfr.max-size:100MB}") DataSize maxSize,
+            @Value("${games.jfr.operation-threshold:1ms}") Duration operationThreshold,
+            @Value("${games.jfr.endpoint-threshold:10ms}") Duration endpointThreshold) {
+        this.enabled = enabled;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.operationThreshold = operationThreshold;
+        this.endpointThreshold = endpointThreshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(settings));
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSize.toBytes());
+            started.enable(GameOperationEvent.class).withThreshold(operationThreshold);
+            started.enable(GameEndpointEvent.class).withThreshold(endpointThreshold);
+            started.start();
+            recording = started;
+            log.info(LOG_RECORDING_STARTED, RECORDING_NAME, settings, maxAge, maxSize);
+        } catch (IOException | ParseException | RuntimeException e) {
+            // Observability must never keep the service from starting
+            log.warn(LOG_RECORDING_FAILED, e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.ms.gamemanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.function.IntSupplier;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * One {@code GameService} call. The outcome stays {@code ERROR} unless the operation sets another one, so
+ * calls that end in an unexpected exception still show up.
+ */
+@Name("com.ms.gamemanagement.GameOperation")
+@Label("Game Operation")
+@Category({"Game Management", "Service"})
+@Description("A call to the game service")
+@StackTrace(false)
+@Threshold("1 ms")
+public class GameOperationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Game Name Hash")
+    @Description("Hash code of the game name, 0 for catalog-wide operations")
+    private int nameHash;
+
+    @Label("Outcome")
+    private String outcome = OUTCOME_ERROR;
+
+    @Label("Catalog Size")
+    @Description("Stored entries when the operation ended, including deleted ones awaiting compaction")
+    private int catalogSize;
+
+    @Label("Games")
+    @Description("Number of games read or written")
+    private int games;
+
+    /**
+     * Starts timing an operation; finish it with {@link #finish(IntSupplier)}.
+     */
+    public static GameOperationEvent start(String operation, String name) {
+        GameOperationEvent event = new GameOperationEvent();
+        event.operation = operation;
+        event.nameHash = name != null ? name.hashCode() : 0;
+        event.begin();
+        return event;
+    }
+
+    public void succeed(int games) {
+        this.outcome = OUTCOME_OK;
+        this.games = games;
+    }
+
+    public void fail(String outcome) {
+        this.outcome = outcome;
+    }
+
+    /**
+     * Ends the operation and commits the event if it passes the recording's threshold. The catalog size is
+     * only looked up for events that are actually recorded.
+     */
+    public void finish(IntSupplier catalogSize) {
+        end();
+        if (shouldCommit()) {
+            this.catalogSize = catalogSize.getAsInt();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.ms.gamemanagement.modal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of a catalog-wide job. Updated by the job's worker thread and read concurrently by status
+ * requests, so every mutable field is volatile.
+ */
+@Getter
+@Setter
+@Schema(description = "Catalog-wide background job")
+public class CatalogJob {
+
+    @Schema(description = "Job identifier", example = "3f1c6a0e-7d8b-4b8e-9d55-1b0d6c1f2e7a")
+    private final String id = UUID.randomUUID().toString();
+
+    @Schema(description = "Kind of job", example = "DELETE_ALL")
+    private final JobType type;
+
+    @Schema(description = "When the job was submitted")
+    private final Instant submittedAt = Instant.now();
+
+    @Schema(description = "Current state of the job", example = "RUNNING")
+    private volatile JobStatus status = JobStatus.QUEUED;
+
+    @Schema(description = "When the job started running")
+    private volatile Instant startedAt;
+
+    @Schema(description = "When the job finished")
+    private volatile Instant finishedAt;
+
+    @Schema(description = "Number of entries the job expects to process", example = "100000")
+    private volatile long total;
+
+    @Schema(description = "Number of entries processed so far", example = "25000")
+    private volatile long processed;
+
+    @Schema(description = "Number of games deleted, entries reclaimed or games reindexed with a new active flag, so far", example = "25000")
+    private volatile long affected;
+
+    @Schema(description = "Failure reason for a failed job")
+    private volatile String error;
+
+    @Schema(description = "Job-specific result, such as an import report")
+    private volatile Object result;
+
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private volatile boolean cancelRequested;
+
+    public CatalogJob(JobType type) {
+        this.type = type;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Point-in-time view of the game catalog")
+public record CatalogSnapshot(
+
+        @Schema(description = "Catalog version the view was taken at", example = "42")
+        long version,
+
+        @Schema(description = "Games visible at that version")
+        List<Game> games) {
+}
@@ -1,13 +1,17 @@
 package com.ms.gamemanagement.modal;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @Schema(description = "Represents a game")
@@ -22,4 +26,17 @@ public class Game {
     @Schema(description = "Flag indicating if the game is active", example = "true")
     private boolean active;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "When the game becomes active; while scheduled, the active flag is derived from the window",
+            example = "2023-08-01T00:00:00Z")
+    private Instant activeFrom;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "When the game stops being active", example = "2023-09-01T00:00:00Z")
+    private Instant activeUntil;
+
+    public Game(String name, LocalDate creationDate, boolean active) {
+        this(name, creationDate, active, null, null);
+    }
+
 }
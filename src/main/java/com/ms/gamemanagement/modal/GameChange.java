@@ -0,0 +1,17 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of change recorded in a game's history")
+public enum GameChange {
+
+    /** The game was created, or created again after a deletion. */
+    CREATED,
+
+    /** The game was replaced, or its activation window flipped its active flag. */
+    UPDATED,
+
+    /** The game was deleted, on its own or by a delete-all. */
+    DELETED
+
+}
@@ -0,0 +1,23 @@
+package com.ms.gamemanagement.modal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "One version of a game")
+public record GameVersion(
+
+        @Schema(description = "Catalog version of the change", example = "42")
+        long version,
+
+        @Schema(description = "When the change was made")
+        Instant timestamp,
+
+        @Schema(description = "Kind of change", example = "UPDATED")
+        GameChange change,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "The game after the change; absent for a deletion")
+        Game game) {
+}
@@ -0,0 +1,34 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+@Schema(description = "Format of a bulk import file")
+public enum ImportFormat {
+
+    /** One game per line: {@code name,creationDate,active[,activeFrom,activeUntil]}, with an optional header row. */
+    CSV,
+
+    /** One JSON game object per line. */
+    NDJSON;
+
+    /**
+     * Derives the format from a file name extension.
+     *
+     * @param fileName the file name
+     * @return the matching format
+     * @throws IllegalArgumentException if the extension is not recognised
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        if (lowerCase.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lowerCase.endsWith(".ndjson") || lowerCase.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the import format of " + fileName);
+    }
+
+}
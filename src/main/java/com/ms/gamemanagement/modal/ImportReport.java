@@ -0,0 +1,36 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk import")
+public record ImportReport(
+
+        @Schema(description = "Imported file", example = "imports/games.csv")
+        String file,
+
+        @Schema(description = "Number of records read, excluding blank lines and the header", example = "1000000")
+        long rows,
+
+        @Schema(description = "Number of games created", example = "999000")
+        long imported,
+
+        @Schema(description = "Number of records skipped because a game with the same name exists", example = "990")
+        long duplicates,
+
+        @Schema(description = "Number of records that could not be parsed", example = "10")
+        long malformed,
+
+        @Schema(description = "Names of the first skipped duplicates")
+        List<String> duplicateNames,
+
+        @Schema(description = "The first parse errors, with the byte offset of the offending line")
+        List<String> errors,
+
+        @Schema(description = "Wall-clock duration of the import in milliseconds", example = "1250")
+        long elapsedMillis,
+
+        @Schema(description = "Records read per second", example = "800000")
+        long rowsPerSecond) {
+}
@@ -0,0 +1,18 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Lifecycle state of a catalog job")
+public enum JobStatus {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.ms.gamemanagement.modal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of catalog-wide job")
+public enum JobType {
+
+    /** Deletes every game, then reclaims the storage of the deleted entries. */
+    DELETE_ALL,
+
+    /** Reclaims storage held by deleted games and superseded revisions. */
+    COMPACTION,
+
+    /** Rebuilds the activation timers of every game from its stored window, re-deriving its active flag. */
+    REINDEX,
+
+    /** Creates games from a CSV or NDJSON file. */
+    IMPORT
+
+}
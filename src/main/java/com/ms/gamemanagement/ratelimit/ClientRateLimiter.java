@@ -0,0 +1,54 @@
+package com.ms.gamemanagement.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one {@link TokenBucket} per client identity, for at most {@code maxClients} clients. When a new client
+ * arrives and every slot is taken, the bucket of the client seen least recently is dropped, so newcomers always
+ * get a budget of their own and never share one with strangers. The dropped client starts again from a full
+ * bucket if it comes back; being the longest idle, its bucket has usually refilled by then anyway.
+ */
+public class ClientRateLimiter {
+
+    // Access-ordered, so the eldest entry is the least recently seen client
+    private final LinkedHashMap<String, TokenBucket> buckets;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final LongSupplier nanoClock;
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, int maxClients, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxClients;
+            }
+        };
+    }
+
+    /**
+     * Tries to take one permit from the given client's budget, evicting the least recently seen client if the
+     * client is new and no slot is free.
+     *
+     * @param clientId the client identity
+     * @return {@code 0} if the request is admitted, otherwise the number of nanoseconds the client should wait
+     */
+    public long tryAcquire(String clientId) {
+        TokenBucket bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(clientId, id -> new TokenBucket(permitsPerSecond, burst, nanoClock));
+        }
+        return bucket.tryAcquire();
+    }
+
+    public int trackedClients() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.ms.gamemanagement.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounds the number of requests in flight and adapts the bound to observed latency: every request that
+ * finishes within the target nudges the limit up by one, a request that overshoots it cuts the limit by
+ * ten percent (at most once per target interval). Requests over the limit are rejected immediately instead
+ * of queueing behind slow ones.
+ */
+public class ConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecrease;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final LongSupplier nanoClock;
+
+    public ConcurrencyLimiter(int minLimit, int maxLimit, long targetLatencyNanos, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.nanoClock = nanoClock;
+        this.limit = new AtomicInteger(maxLimit);
+        this.lastDecrease = new AtomicLong(nanoClock.getAsLong() - targetLatencyNanos);
+    }
+
+    /**
+     * Tries to admit a request. Every successful call must be paired with {@link #release(long)}.
+     *
+     * @return {@code true} if the request may proceed
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases an admitted request and feeds its latency back into the limit.
+     *
+     * @param latencyNanos how long the request took
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos <= targetLatencyNanos) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long last = lastDecrease.get();
+        if (now - last >= targetLatencyNanos && lastDecrease.compareAndSet(last, now)) {
+            limit.updateAndGet(current -> Math.max(minLimit, current - Math.max(1, current / 10)));
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+}
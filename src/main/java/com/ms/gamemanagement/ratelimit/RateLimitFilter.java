@@ -0,0 +1,151 @@
+package com.ms.gamemanagement.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Admission control in front of every {@code /v1} API. Each client gets two token buckets: a small one for
+ * catalog-wide operations ({@code GET} and {@code DELETE} on a games collection, global or a tenant's, and
+ * starting a job or an import) and a larger one for point operations. Clients are identified by their remote
+ * address, or by the {@code X-Client-Id} header when the request comes through one of the configured trusted
+ * proxies; anyone else could pick a new identity per request. Admitted requests then pass an adaptive
+ * concurrency limit which sheds load with 503 once latency exceeds its target.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern TENANT_COLLECTION = Pattern.compile("/v1/tenants/[^/]+/games/?");
+
+    private final boolean enabled;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final ClientRateLimiter expensiveLimiter;
+    private final ClientRateLimiter pointLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Counter expensiveRejections;
+    private final Counter pointRejections;
+    private final Counter overloadRejections;
+
+    public RateLimitFilter(
+            @Value("${games.rate-limit.enabled:true}") boolean enabled,
+            @Value("${games.rate-limit.client-header:" + CLIENT_ID_HEADER + "}") String clientHeader,
+            @Value("${games.rate-limit.trusted-proxies:}") List<String> trustedProxies,
+            @Value("${games.rate-limit.expensive.permits-per-second:2}") double expensiveRate,
+            @Value("${games.rate-limit.expensive.burst:5}") int expensiveBurst,
+            @Value("${games.rate-limit.point.permits-per-second:100}") double pointRate,
+            @Value("${games.rate-limit.point.burst:200}") int pointBurst,
+            @Value("${games.rate-limit.max-tracked-clients:10000}") int maxTrackedClients,
+            @Value("${games.load-shedding.min-concurrency:8}") int minConcurrency,
+            @Value("${games.load-shedding.max-concurrency:200}") int maxConcurrency,
+            @Value("${games.load-shedding.target-latency-ms:250}") long targetLatencyMillis,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+        this.expensiveLimiter = new ClientRateLimiter(expensiveRate, expensiveBurst, maxTrackedClients, System::nanoTime);
+        this.pointLimiter = new ClientRateLimiter(pointRate, pointBurst, maxTrackedClients, System::nanoTime);
+        this.concurrencyLimiter = new ConcurrencyLimiter(minConcurrency, maxConcurrency,
+                TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis), System::nanoTime);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.expensiveRejections = Counter.builder(METRIC_REQUESTS_REJECTED)
+                .tag("reason", "rate_limited").tag("budget", BUDGET_EXPENSIVE).register(registry);
+        this.pointRejections = Counter.builder(METRIC_REQUESTS_REJECTED)
+                .tag("reason", "rate_limited").tag("budget", BUDGET_POINT).register(registry);
+        this.overloadRejections = Counter.builder(METRIC_REQUESTS_REJECTED)
+                .tag("reason", "overloaded").tag("budget", "any").register(registry);
+        Gauge.builder(METRIC_REQUESTS_IN_FLIGHT, concurrencyLimiter, ConcurrencyLimiter::getInFlight)
+                .register(registry);
+        Gauge.builder(METRIC_CONCURRENCY_LIMIT, concurrencyLimiter, ConcurrencyLimiter::getLimit)
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean expensive = isExpensive(request);
+        String clientId = clientId(request);
+
+        long waitNanos = (expensive ? expensiveLimiter : pointLimiter).tryAcquire(clientId);
+        if (waitNanos > 0) {
+            (expensive ? expensiveRejections : pointRejections).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.debug(LOG_RATE_LIMITED, clientId, expensive ? BUDGET_EXPENSIVE : BUDGET_POINT, retryAfterSeconds);
+            reject(response, STATUS_TOO_MANY_REQUESTS, retryAfterSeconds);
+            return;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            overloadRejections.increment();
+            log.debug(LOG_LOAD_SHED, request.getMethod(), request.getRequestURI(),
+                    concurrencyLimiter.getInFlight(), concurrencyLimiter.getLimit());
+            reject(response, STATUS_SERVICE_UNAVAILABLE, 1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private boolean isExpensive(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (isPath(path, JOBS_PATH) || isPath(path, IMPORT_PATH)) {
+            return "POST".equals(method);
+        }
+        boolean collection = isPath(path, BASE_PATH) || TENANT_COLLECTION.matcher(path).matches();
+        return collection && ("GET".equals(method) || "DELETE".equals(method));
+    }
+
+    private static boolean isPath(String path, String expected) {
+        return path.equals(expected) || path.equals(expected + "/");
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String header = request.getHeader(clientHeader);
+        return header != null && !header.isBlank() ? header : remoteAddress;
+    }
+
+    private static void reject(HttpServletResponse response, int status, long retryAfterSeconds) {
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.ms.gamemanagement.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm: the whole bucket state is a single
+ * "theoretical arrival time" updated with compare-and-set, so acquiring a permit never blocks.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param permitsPerSecond the sustained refill rate
+     * @param burst            the maximum number of permits that can be taken at once
+     * @param nanoClock        monotonic clock in nanoseconds, usually {@code System::nanoTime}
+     */
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Tries to take one permit.
+     *
+     * @return {@code 0} if the permit was granted, otherwise the number of nanoseconds until one becomes available
+     */
+    public long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket has refilled completely, in which case dropping it loses no state.
+     */
+    public boolean isFull() {
+        return theoreticalArrival.get() - nanoClock.getAsLong() <= 0;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.ms.gamemanagement.service;
+
+import com.ms.gamemanagement.exception.JobFinishedException;
+import com.ms.gamemanagement.exception.JobNotFoundException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.JobType;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CatalogJobService {
+
+    /**
+     * Work performed by a catalog job, split into chunks separated by {@link JobContext#endChunk()}.
+     */
+    @FunctionalInterface
+    interface JobTask {
+        void run(CatalogJob job, JobContext context) throws InterruptedException;
+    }
+
+    /**
+     * Execution settings handed to a running {@link JobTask}.
+     */
+    interface JobContext {
+
+        /**
+         * @return the number of entries to process between two calls to {@link #endChunk()}
+         */
+        int chunkSize();
+
+        /**
+         * Ends a chunk of work: stops the job if cancellation was requested, otherwise pauses briefly so
+         * foreground requests are not starved.
+         *
+         * @throws java.util.concurrent.CancellationException if the job has been cancelled
+         * @throws InterruptedException                       if the worker is shutting down
+         */
+        void endChunk() throws InterruptedException;
+    }
+
+    /**
+     * Submits one of the built-in catalog jobs.
+     *
+     * @param type the kind of job to run
+     * @return the queued job
+     * @throws IllegalArgumentException if the job type needs parameters and cannot be submitted this way
+     */
+    CatalogJob submit(JobType type);
+
+    /**
+     * Submits a job running the given task. Jobs run one at a time, in submission order.
+     *
+     * @param type the kind of job
+     * @param task the work to perform
+     * @return the queued job
+     */
+    CatalogJob submit(JobType type, JobTask task);
+
+    /**
+     * Retrieves a job by its identifier.
+     *
+     * @param id the job identifier
+     * @return an optional containing the job if found, or an empty optional if it does not exist or has expired
+     */
+    Optional<CatalogJob> getJob(String id);
+
+    /**
+     * Retrieves all queued, running and recently finished jobs.
+     *
+     * @return A list of jobs. If there are none, an empty list is returned.
+     */
+    List<CatalogJob> getAllJobs();
+
+    /**
+     * Requests cancellation of a job. A running job stops at the end of its current chunk; work already
+     * done is kept.
+     *
+     * @param id the job identifier
+     * @return the job
+     * @throws JobNotFoundException if the job does not exist
+     * @throws JobFinishedException if the job has already finished
+     */
+    CatalogJob cancelJob(String id) throws JobNotFoundException;
+}
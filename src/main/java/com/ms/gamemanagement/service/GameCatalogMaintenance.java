@@ -0,0 +1,48 @@
+package com.ms.gamemanagement.service;
+
+import java.util.Set;
+
+/**
+ * Low-level operations on the game store used by catalog-wide jobs, which split their work into chunks
+ * rather than holding up a request thread.
+ */
+public interface GameCatalogMaintenance {
+
+    /**
+     * Deletes all games as a single catalog change without reclaiming their storage.
+     *
+     * @return the number of games deleted
+     */
+    int markAllGamesDeleted();
+
+    /**
+     * Returns the names of all stored entries, including deleted games awaiting compaction. The set is
+     * weakly consistent and may be iterated while the catalog changes.
+     *
+     * @return a live view of the stored names
+     */
+    Set<String> storedGameNames();
+
+    /**
+     * Returns the number of stored entries, including deleted games awaiting compaction.
+     *
+     * @return the number of stored entries
+     */
+    int storedGameCount();
+
+    /**
+     * Reclaims storage held by superseded revisions of the named entry.
+     *
+     * @param name the name of the entry to compact
+     * @return {@code true} if the entry was deleted and has been removed altogether
+     */
+    boolean compactGame(String name);
+
+    /**
+     * Rebuilds the activation timer of the named game from its stored window and re-derives its active flag.
+     *
+     * @param name the name of the game to reindex
+     * @return {@code true} if the game's active flag changed
+     */
+    boolean reindexGame(String name);
+}
@@ -0,0 +1,33 @@
+package com.ms.gamemanagement.service;
+
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.modal.ImportReport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface GameImportService {
+
+    /**
+     * Imports games from a local file, parsing it in parallel and creating games in chunks. Records whose
+     * name already exists are skipped and reported as duplicates; unparseable records are reported as
+     * malformed. Neither aborts the import.
+     *
+     * @param file   the file to import
+     * @param format the format of the file
+     * @return a summary of the import
+     * @throws IOException if the file cannot be read
+     */
+    ImportReport importFile(Path file, ImportFormat format) throws IOException;
+
+    /**
+     * Starts a background import of a file in the configured import directory.
+     *
+     * @param fileName the file name, relative to the import directory
+     * @param format   the format of the file
+     * @return the queued job; its result is the {@link ImportReport} once it completes
+     * @throws IllegalArgumentException if the file is outside the import directory or does not exist
+     */
+    CatalogJob submitImport(String fileName, ImportFormat format);
+}
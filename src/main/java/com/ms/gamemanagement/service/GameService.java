@@ -1,8 +1,13 @@
 package com.ms.gamemanagement.service;
 import com.ms.gamemanagement.exception.DuplicateGameException;
 import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.HistoryNotRetainedException;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
 import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameVersion;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +18,19 @@ public interface GameService {
      * @param game the game to create
      * @return an optional containing the created game if successful, or an empty optional if a game with the same name already exists
      * @throws DuplicateGameException if a game with the same name already exists
+     * @throws InvalidActivationWindowException if the game's activation window ends before it starts
      */
     Optional<Game> createGame(Game game) throws DuplicateGameException;
 
+    /**
+     * Creates several games in one call. Each game is still a catalog write of its own, so this saves the
+     * per-call overhead only; games whose name already exists are skipped rather than failing the call.
+     *
+     * @param games the games to create
+     * @return the names of the games that were skipped because a game with the same name already exists
+     */
+    List<String> createGames(List<Game> games);
+
     /**
      * Retrieves a game by its name.
      *
@@ -30,6 +45,7 @@ public interface GameService {
      * @param name        the name of the game to update
      * @param updatedGame the updated game object
      * @throws GameNotFoundException if the game to be updated does not exist
+     * @throws InvalidActivationWindowException if the game's activation window ends before it starts
      * @return an optional containing the updated game if successful, or an empty optional if the game does not exist
      */
     Optional<Game> updateGame(String name, Game updatedGame) throws GameNotFoundException;
@@ -50,9 +66,36 @@ public interface GameService {
     List<Game> getAllGames();
 
     /**
-     * Deletes all games.
+     * Retrieves a consistent point-in-time view of all games. The view is not affected by writes made
+     * while it is being taken or afterwards; it is shared between callers and must not be modified.
+     *
+     * @return the catalog version of the view and the games visible at that version
+     */
+    CatalogSnapshot getCatalogSnapshot();
+
+    /**
+     * Deletes all games. The games disappear at once, but their storage is reclaimed before this returns, which
+     * takes time proportional to the catalog; a {@code DELETE_ALL} job reclaims it in the background instead.
      *
      * @return the number of games deleted
      */
     int deleteAllGames();
+
+    /**
+     * Retrieves the retained versions of a game, oldest first, including its deletions.
+     *
+     * @param name the name of the game
+     * @return the versions of the game, or an empty list if it has no retained history
+     */
+    List<GameVersion> getGameHistory(String name);
+
+    /**
+     * Retrieves all games as they were at a point in time.
+     *
+     * @param asOf the point in time, within the history retention period
+     * @return the games that existed at that time, as one consistent state of the catalog
+     * @throws HistoryNotRetainedException if history is disabled, the time is before the retention period, or
+     *                                     some game has changed more than the retained number of versions since
+     */
+    List<Game> getAllGames(Instant asOf);
 }
@@ -0,0 +1,81 @@
+package com.ms.gamemanagement.service;
+
+import com.ms.gamemanagement.exception.DuplicateGameException;
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.InvalidTenantException;
+import com.ms.gamemanagement.exception.TenantBudgetExceededException;
+import com.ms.gamemanagement.exception.TenantQuotaExceededException;
+import com.ms.gamemanagement.exception.TenantUnavailableException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+
+import java.util.Optional;
+
+/**
+ * Games scoped to a tenant. Each tenant has an isolated catalog with its own operation quota, concurrency
+ * limit and memory budget, created when the tenant creates its first game; until then the tenant simply has no
+ * games. Every operation may throw {@link TenantQuotaExceededException} or {@link TenantUnavailableException}
+ * when the tenant is over its limits, and {@link InvalidTenantException} for an invalid tenant id.
+ */
+public interface TenantGameService {
+
+    /**
+     * Creates a new game for a tenant.
+     *
+     * @param tenant the tenant id
+     * @param game   the game to create
+     * @return an optional containing the created game
+     * @throws DuplicateGameException         if the tenant already has a game with the same name
+     * @throws TenantQuotaExceededException  if this is the tenant's first game and too many tenants have been
+     *                                        created recently
+     * @throws TenantBudgetExceededException if the game does not fit in the tenant's memory budget
+     */
+    Optional<Game> createGame(String tenant, Game game) throws DuplicateGameException;
+
+    /**
+     * Retrieves a tenant's game by its name.
+     *
+     * @param tenant the tenant id
+     * @param name   the name of the game to retrieve
+     * @return an optional containing the game if found, or an empty optional if the tenant has no such game
+     */
+    Optional<Game> getGame(String tenant, String name);
+
+    /**
+     * Updates an existing game of a tenant.
+     *
+     * @param tenant      the tenant id
+     * @param name        the name of the game to update
+     * @param updatedGame the updated game object
+     * @return an optional containing the updated game
+     * @throws GameNotFoundException          if the tenant has no game with the given name
+     * @throws TenantBudgetExceededException if the updated game does not fit in the tenant's memory budget
+     */
+    Optional<Game> updateGame(String tenant, String name, Game updatedGame) throws GameNotFoundException;
+
+    /**
+     * Deletes a tenant's game by its name.
+     *
+     * @param tenant the tenant id
+     * @param name   the name of the game to delete
+     * @throws GameNotFoundException if the tenant has no game with the given name
+     */
+    void deleteGame(String tenant, String name) throws GameNotFoundException;
+
+    /**
+     * Returns a consistent view of all games of a tenant.
+     *
+     * @param tenant the tenant id
+     * @return the games together with the version of the tenant's catalog they were read at
+     */
+    CatalogSnapshot getCatalogSnapshot(String tenant);
+
+    /**
+     * Deletes all games of a tenant.
+     *
+     * @param tenant the tenant id
+     * @return the number of games deleted
+     */
+    int deleteAllGames(String tenant);
+
+}
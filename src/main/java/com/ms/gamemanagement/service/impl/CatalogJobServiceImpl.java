@@ -0,0 +1,204 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.JobFinishedException;
+import com.ms.gamemanagement.exception.JobNotFoundException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.JobStatus;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
+import com.ms.gamemanagement.service.GameCatalogMaintenance;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+@Slf4j
+@Service
+public class CatalogJobServiceImpl implements CatalogJobService {
+
+    private final GameCatalogMaintenance maintenance;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final int retainedJobs;
+
+    private final Map<String, CatalogJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobs = new ConcurrentLinkedQueue<>();
+
+    // A single worker: catalog-wide jobs run one at a time and pause between chunks to leave room for requests
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-jobs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogJobServiceImpl(
+            GameCatalogMaintenance maintenance,
+            @Value("${games.jobs.chunk-size:1000}") int chunkSize,
+            @Value("${games.jobs.chunk-pause-ms:5}") long chunkPauseMillis,
+            @Value("${games.jobs.retained:100}") int retainedJobs) {
+        this.maintenance = maintenance;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.retainedJobs = retainedJobs;
+    }
+
+    @Override
+    public CatalogJob submit(JobType type) {
+        return switch (type) {
+            case DELETE_ALL -> submit(type, this::deleteAll);
+            case COMPACTION -> submit(type, (job, context) -> job.setAffected(compact(job, context)));
+            case REINDEX -> submit(type, (job, context) -> job.setAffected(forEachStored(job, context, maintenance::reindexGame)));
+            case IMPORT -> throw new IllegalArgumentException("Import jobs need a file; use GameImportService");
+        };
+    }
+
+    @Override
+    public CatalogJob submit(JobType type, JobTask task) {
+        CatalogJob job = new CatalogJob(type);
+        jobs.put(job.getId(), job);
+        worker.execute(() -> run(job, task));
+        log.info(LOG_SUBMITTED_JOB, type, job.getId());
+        return job;
+    }
+
+    @Override
+    public Optional<CatalogJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public List<CatalogJob> getAllJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(CatalogJob::getSubmittedAt))
+                .toList();
+    }
+
+    @Override
+    public CatalogJob cancelJob(String id) throws JobNotFoundException {
+        CatalogJob job = jobs.get(id);
+        if (job == null) {
+            log.warn(LOG_JOB_NOT_FOUND, id);
+            throw new JobNotFoundException(String.format(JOB_NOT_FOUND, id));
+        }
+        JobStatus status = job.getStatus();
+        if (status.isFinished()) {
+            log.warn(LOG_JOB_ALREADY_FINISHED, id, status);
+            throw new JobFinishedException(String.format(JOB_ALREADY_FINISHED, id, status));
+        }
+        job.requestCancel();
+        log.info(LOG_CANCELLED_JOB, id);
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void deleteAll(CatalogJob job, JobContext context) throws InterruptedException {
+        job.setAffected(maintenance.markAllGamesDeleted());
+        compact(job, context);
+    }
+
+    /**
+     * Walks every stored entry in chunks, reclaiming what no reader can see any more.
+     *
+     * @return the number of entries removed
+     */
+    private long compact(CatalogJob job, JobContext context) throws InterruptedException {
+        return forEachStored(job, context, maintenance::compactGame);
+    }
+
+    /**
+     * Applies an operation to every stored entry in chunks.
+     *
+     * @return the number of entries for which the operation returned {@code true}
+     */
+    private long forEachStored(CatalogJob job, JobContext context, Predicate<String> operation) throws InterruptedException {
+        job.setTotal(maintenance.storedGameCount());
+        long affected = 0;
+        Iterator<String> names = maintenance.storedGameNames().iterator();
+        while (names.hasNext()) {
+            for (int i = 0; i < context.chunkSize() && names.hasNext(); i++) {
+                if (operation.test(names.next())) {
+                    affected++;
+                }
+                job.setProcessed(job.getProcessed() + 1);
+            }
+            context.endChunk();
+        }
+        return affected;
+    }
+
+    private void run(CatalogJob job, JobTask task) {
+        if (job.isCancelRequested()) {
+            finish(job, JobStatus.CANCELLED);
+            return;
+        }
+        job.setStartedAt(Instant.now());
+        job.setStatus(JobStatus.RUNNING);
+        log.info(LOG_JOB_STARTED, job.getType(), job.getId());
+        try {
+            task.run(job, contextFor(job));
+            finish(job, JobStatus.COMPLETED);
+        } catch (CancellationException e) {
+            finish(job, JobStatus.CANCELLED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(job, JobStatus.CANCELLED);
+        } catch (RuntimeException e) {
+            log.error(LOG_JOB_FAILED, job.getId(), e);
+            job.setError(e.getMessage());
+            finish(job, JobStatus.FAILED);
+        }
+    }
+
+    private JobContext contextFor(CatalogJob job) {
+        return new JobContext() {
+            @Override
+            public int chunkSize() {
+                return chunkSize;
+            }
+
+            @Override
+            public void endChunk() throws InterruptedException {
+                if (job.isCancelRequested()) {
+                    throw new CancellationException();
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                Thread.sleep(chunkPauseMillis);
+            }
+        };
+    }
+
+    private void finish(CatalogJob job, JobStatus status) {
+        job.setFinishedAt(Instant.now());
+        job.setStatus(status);
+        log.info(LOG_JOB_FINISHED, job.getType(), job.getId(), status, job.getProcessed(), job.getAffected());
+        finishedJobs.add(job.getId());
+        while (finishedJobs.size() > retainedJobs) {
+            String expired = finishedJobs.poll();
+            if (expired != null) {
+                jobs.remove(expired);
+            }
+        }
+    }
+
+}
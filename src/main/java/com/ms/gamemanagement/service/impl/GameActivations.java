@@ -0,0 +1,148 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.concurrent.TimingWheel;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.Game;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Activation windows of one catalog. A scheduled game's active flag is derived from its window and the wall
+ * clock inside every write of the game, from the same reading of the clock as its timer, and the next boundary
+ * of the window is kept as a single timer in a {@link TimingWheel}, so a transition costs O(1) however many
+ * games are scheduled and nothing ever scans the catalog. One shared thread ticks every catalog that has
+ * pending timers and sleeps otherwise.
+ *
+ * <p>Timers are registered from inside catalog writes, under the game's lock, and fired with no lock held, so
+ * the lock order is always catalog, then this object, then the wheel.
+ */
+@Slf4j
+class GameActivations {
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 64;
+
+    private static final ScheduledExecutorService TICKER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-activations");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** A boundary of a game's window, valid only while the game still has that window. */
+    record Transition(String name, Instant activeFrom, Instant activeUntil) {
+
+        boolean matches(Game game) {
+            return Objects.equals(activeFrom, game.getActiveFrom()) && Objects.equals(activeUntil, game.getActiveUntil());
+        }
+    }
+
+    private final Clock clock;
+    private final Consumer<Transition> fire;
+    private final TimingWheel<Transition> wheel;
+    private final Map<String, TimingWheel.Timeout<Transition>> pending = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> ticker;
+
+    GameActivations(Consumer<Transition> fire) {
+        this(Clock.systemUTC(), fire);
+    }
+
+    GameActivations(Clock clock, Consumer<Transition> fire) {
+        this.clock = clock;
+        this.fire = fire;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, clock.millis());
+    }
+
+    /**
+     * Checks the window of a game before it is written.
+     *
+     * @throws InvalidActivationWindowException if the window ends before it starts
+     */
+    void validate(Game game) {
+        Instant from = game.getActiveFrom();
+        Instant until = game.getActiveUntil();
+        if (from != null && until != null && !from.isBefore(until)) {
+            throw new InvalidActivationWindowException(String.format(INVALID_ACTIVATION_WINDOW, game.getName()));
+        }
+    }
+
+    /**
+     * Sets the active flag of a game that is about to be stored from its window, and replaces the pending timer
+     * of the named game with one for the next boundary of the window, if any; games without a window keep their
+     * flag. Both come from one reading of the clock, so a boundary that passes meanwhile is either already
+     * reflected in the flag or still ahead of the timer. Must be called while holding the game's catalog lock,
+     * on a game that readers cannot see yet.
+     */
+    synchronized void reschedule(String name, Game game) {
+        cancel(name);
+        Instant from = game.getActiveFrom();
+        Instant until = game.getActiveUntil();
+        if (from == null && until == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        game.setActive((from == null || !now.isBefore(from)) && (until == null || now.isBefore(until)));
+        Instant next = from != null && now.isBefore(from) ? from : until != null && now.isBefore(until) ? until : null;
+        if (next == null) {
+            return;
+        }
+        if (ticker == null) {
+            wheel.advance(clock.millis());
+            ticker = TICKER.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        pending.put(name, wheel.schedule(next.toEpochMilli(),
+                new Transition(name, game.getActiveFrom(), game.getActiveUntil())));
+    }
+
+    /**
+     * Drops the pending timer of the named game. Must be called while holding the game's catalog lock.
+     */
+    synchronized void cancel(String name) {
+        TimingWheel.Timeout<Transition> timeout = pending.remove(name);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    synchronized void clear() {
+        pending.clear();
+        wheel.clear();
+    }
+
+    /**
+     * Fires the transitions that are due. Runs on the shared ticker thread.
+     */
+    void tick() {
+        List<Transition> due;
+        synchronized (this) {
+            due = wheel.advance(clock.millis());
+            for (Transition transition : due) {
+                pending.computeIfPresent(transition.name(), (name, timeout) -> timeout.getValue() == transition ? null : timeout);
+            }
+            if (wheel.size() == 0 && ticker != null) {
+                ticker.cancel(false);
+                ticker = null;
+            }
+        }
+        for (Transition transition : due) {
+            try {
+                fire.accept(transition);
+            } catch (RuntimeException e) {
+                log.error(LOG_TRANSITION_FAILED, transition.name(), e);
+            }
+        }
+    }
+
+}
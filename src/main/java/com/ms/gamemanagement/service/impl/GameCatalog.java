@@ -0,0 +1,362 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * Multi-version game store. Every write is stamped with a catalog version and prepended to the game's
+ * revision chain, so a reader pinned to a version can walk each chain back to the state it had at that
+ * version while writers carry on. Delete-all is a single version that hides everything older, which makes
+ * it O(1): the number of games it hides comes from a count of visible games that writes keep up to date as
+ * they commit, and the hidden revisions are reclaimed later by {@link #compact(String)}.
+ *
+ * <p>A version is committed once its write is installed; {@link #committedVersion()} is the newest version
+ * with no uncommitted version at or below it. Writes to the same game serialize on its map entry, and every
+ * write briefly takes a catalog-wide lock to allocate and later commit its version, partly while holding the
+ * entry; readers never block writers, and a snapshot waits at most for writes that are already being
+ * installed. Revisions older than the oldest pinned reader are pruned as writers and compaction pass by.
+ * Stored {@link Game} instances are shared with readers and must not be modified; callers outside the
+ * service only ever receive copies.
+ *
+ * <p>An optional {@link ChangeListener} sees every change with its version while the change is being
+ * installed, so listeners observe the changes of each game in version order.
+ */
+class GameCatalog {
+
+    /** Observes changes as they are installed; called under the lock of the changed entry and must be quick. */
+    interface ChangeListener {
+
+        ChangeListener NONE = new ChangeListener() {
+        };
+
+        /**
+         * @param previous the game before the change, {@code null} if it did not exist
+         * @param next     the game after the change, {@code null} for a deletion
+         */
+        default void changed(String name, long version, Game previous, Game next) {
+        }
+
+        default void cleared(long version) {
+        }
+
+        /**
+         * Called after a write has been committed, with no lock held, for upkeep that must not delay other writers
+         * of the same game.
+         */
+        default void committed() {
+        }
+    }
+
+    private static final long COMMIT_WAIT_NANOS = 1_000;
+
+    /** One state of a game; {@code game} is {@code null} for a deletion. */
+    private record Revision(long version, Game game, Revision previous) {
+    }
+
+    /** The last allocated version together with the version of the last delete-all. */
+    private record Clock(long version, long clearedAt) {
+
+        Clock next() {
+            return new Clock(version + 1, clearedAt);
+        }
+
+        Clock clear() {
+            return new Clock(version + 1, version + 1);
+        }
+    }
+
+    private final Map<String, Revision> revisions = new ConcurrentHashMap<>();
+    private final Object clockLock = new Object();
+    private volatile Clock clock = new Clock(0, 0);
+    private final NavigableSet<Long> uncommitted = new TreeSet<>();
+    // Guarded by clockLock: games visible after every committed write, and the count each pending clear hides
+    private int visible;
+    private final Map<Long, Integer> hiddenByClear = new HashMap<>();
+    private final NavigableSet<Long> clears = new ConcurrentSkipListSet<>(List.of(0L));
+    private final ConcurrentSkipListMap<Long, Integer> readers = new ConcurrentSkipListMap<>();
+    private final AtomicLong horizon = new AtomicLong();
+    private final AtomicReference<CatalogSnapshot> latest = new AtomicReference<>(new CatalogSnapshot(0, List.of()));
+    private final ChangeListener listener;
+
+    GameCatalog() {
+        this(ChangeListener.NONE);
+    }
+
+    GameCatalog(ChangeListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the latest state of the named game, or {@code null} if it does not exist.
+     */
+    Game get(String name) {
+        Revision head = revisions.get(name);
+        return head != null && head.version() > clock.clearedAt() ? head.game() : null;
+    }
+
+    /**
+     * Returns the latest state of the named game once every version up to {@code required} is committed, so
+     * the result covers every write that completed before {@link #latestVersion()} returned that value.
+     */
+    Game get(String name, long required) {
+        while (committedVersion() < required) {
+            LockSupport.parkNanos(COMMIT_WAIT_NANOS);
+        }
+        return get(name);
+    }
+
+    /**
+     * Atomically replaces the named game with the result of the mutation. The mutation receives the current
+     * game ({@code null} if absent) and returns the next one ({@code null} to delete); returning its argument
+     * leaves the catalog unchanged. Exceptions thrown by the mutation abort the write.
+     *
+     * @return the game as it was before the write, or {@code null} if it did not exist
+     */
+    Game write(String name, UnaryOperator<Game> mutation) {
+        long pruneHorizon = horizon();
+        long pruneFloor = clearedAt(pruneHorizon);
+        Clock[] tick = new Clock[1];
+        Game[] previous = new Game[1];
+        int[] delta = new int[1];
+        try {
+            revisions.compute(name, (key, head) -> {
+                Clock current = tick(Clock::next);
+                tick[0] = current;
+                Game game = head != null && head.version() > current.clearedAt() ? head.game() : null;
+                previous[0] = game;
+                Game next = mutation.apply(game);
+                if (next == game) {
+                    return head;
+                }
+                listener.changed(key, current.version(), game, next);
+                delta[0] = (next != null ? 1 : 0) - (game != null ? 1 : 0);
+                return new Revision(current.version(), next, prune(head, pruneHorizon, pruneFloor));
+            });
+        } finally {
+            if (tick[0] != null) {
+                commit(tick[0].version(), delta[0]);
+            }
+        }
+        listener.committed();
+        return previous[0];
+    }
+
+    /**
+     * Deletes every game as a single version. Storage is reclaimed lazily by {@link #compact(String)}.
+     *
+     * @return the number of games visible immediately before the clear
+     */
+    int clear() {
+        Clock current;
+        synchronized (clockLock) {
+            current = tick(Clock::clear);
+            clears.add(current.version());
+            hiddenByClear.put(current.version(), visible);
+            visible = 0;
+        }
+        long version = current.version();
+        try {
+            listener.cleared(version);
+            // Writes with older versions still count towards what the clear hides; they are one map update away
+            while (committedVersion() < version - 1) {
+                LockSupport.parkNanos(COMMIT_WAIT_NANOS);
+            }
+        } finally {
+            commit(version, 0);
+        }
+        synchronized (clockLock) {
+            return hiddenByClear.remove(version);
+        }
+    }
+
+    /**
+     * Returns a consistent view of every game that includes at least every write completed before the call.
+     * Views are immutable and shared until the next write.
+     */
+    CatalogSnapshot snapshot() {
+        return snapshot(latestVersion());
+    }
+
+    /**
+     * Returns a consistent view of every game at a committed version of at least {@code required}. Every write
+     * that completed before {@link #latestVersion()} returned a value is covered by a view that requires it.
+     */
+    CatalogSnapshot snapshot(long required) {
+        CatalogSnapshot cached = latest.get();
+        if (cached.version() >= required) {
+            return cached;
+        }
+        long version = pin(required);
+        try {
+            long clearedAt = clearedAt(version);
+            List<Game> games = new ArrayList<>();
+            for (Revision head : revisions.values()) {
+                Revision revision = head;
+                while (revision != null && revision.version() > version) {
+                    revision = revision.previous();
+                }
+                if (revision != null && revision.game() != null && revision.version() > clearedAt) {
+                    games.add(revision.game());
+                }
+            }
+            CatalogSnapshot snapshot = new CatalogSnapshot(version, List.copyOf(games));
+            latest.accumulateAndGet(snapshot, (a, b) -> a.version() >= b.version() ? a : b);
+            return snapshot;
+        } finally {
+            unpin(version);
+        }
+    }
+
+    /**
+     * Drops revisions of the named game that no reader can see any more, removing the entry altogether
+     * once it is deleted for every reader.
+     *
+     * @return {@code true} if the entry was removed
+     */
+    boolean compact(String name) {
+        long pruneHorizon = horizon();
+        long pruneFloor = clearedAt(pruneHorizon);
+        boolean[] removed = new boolean[1];
+        revisions.computeIfPresent(name, (key, head) -> {
+            Revision pruned = prune(head, pruneHorizon, pruneFloor);
+            removed[0] = pruned == null;
+            return pruned;
+        });
+        clears.headSet(pruneFloor).clear();
+        return removed[0];
+    }
+
+    /**
+     * Returns the names of all stored entries, including deleted ones awaiting compaction. The view is
+     * weakly consistent and safe to iterate while the catalog changes.
+     */
+    Set<String> storedNames() {
+        return revisions.keySet();
+    }
+
+    /**
+     * Returns the number of stored entries, including deleted ones awaiting compaction.
+     */
+    int storedSize() {
+        return revisions.size();
+    }
+
+    /**
+     * Returns the newest version handed out to a write, committed or not.
+     */
+    long latestVersion() {
+        return clock.version();
+    }
+
+    /**
+     * Returns the newest version at or below which every write is installed.
+     */
+    long committedVersion() {
+        synchronized (clockLock) {
+            return uncommitted.isEmpty() ? clock.version() : uncommitted.first() - 1;
+        }
+    }
+
+    private static Revision prune(Revision revision, long pruneHorizon, long pruneFloor) {
+        if (revision == null) {
+            return null;
+        }
+        if (revision.version() <= pruneHorizon) {
+            // This is what the oldest possible reader sees; anything older is unreachable
+            if (revision.game() == null || revision.version() <= pruneFloor) {
+                return null;
+            }
+            return revision.previous() == null ? revision : new Revision(revision.version(), revision.game(), null);
+        }
+        Revision previous = prune(revision.previous(), pruneHorizon, pruneFloor);
+        return previous == revision.previous() ? revision : new Revision(revision.version(), revision.game(), previous);
+    }
+
+    /**
+     * Returns the last delete-all at or before the given version. Compaction trims clears nobody can read
+     * at any more, so for versions below the horizon this may be an older clear, which only makes pruning
+     * more conservative.
+     */
+    private long clearedAt(long version) {
+        Long clearedAt = clears.floor(version);
+        return clearedAt != null ? clearedAt : 0;
+    }
+
+    private Clock tick(UnaryOperator<Clock> advance) {
+        synchronized (clockLock) {
+            Clock next = advance.apply(clock);
+            clock = next;
+            uncommitted.add(next.version());
+            return next;
+        }
+    }
+
+    /**
+     * Commits a version and applies its change to the number of visible games, or to the count of the first
+     * delete-all after it if one has been made since the version was allocated.
+     */
+    private void commit(long version, int delta) {
+        synchronized (clockLock) {
+            uncommitted.remove(version);
+            if (delta != 0) {
+                Long hiddenBy = clears.higher(version);
+                if (hiddenBy != null) {
+                    hiddenByClear.merge(hiddenBy, delta, Integer::sum);
+                } else {
+                    visible += delta;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the oldest version any current or future reader can ask for. Publishing the committed version
+     * before looking at the pinned readers pairs with {@link #pin()}, which checks the published value after
+     * pinning: a reader either shows up here or notices that it raced with pruning and retries.
+     */
+    private long horizon() {
+        long version = committedVersion();
+        horizon.accumulateAndGet(version, Math::max);
+        Map.Entry<Long, Integer> oldestReader = readers.firstEntry();
+        return oldestReader == null ? version : Math.min(version, oldestReader.getKey());
+    }
+
+    /**
+     * Pins the committed version for reading once it reaches {@code required}. Writes below it are at most
+     * one map update away from committing, so the wait is short.
+     */
+    private long pin(long required) {
+        while (true) {
+            long version = committedVersion();
+            if (version < required) {
+                LockSupport.parkNanos(COMMIT_WAIT_NANOS);
+                continue;
+            }
+            readers.merge(version, 1, Integer::sum);
+            if (horizon.get() <= version) {
+                return version;
+            }
+            unpin(version);
+        }
+    }
+
+    private void unpin(long version) {
+        readers.computeIfPresent(version, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+}
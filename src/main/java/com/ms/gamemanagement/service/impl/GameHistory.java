@@ -0,0 +1,370 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.HistoryNotRetainedException;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameVersion;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Version history of one catalog, fed by the catalog as changes are installed. Each game has a
+ * {@link GameHistoryLog} of compact deltas; delete-alls are kept once, catalog-wide, rather than as a record per
+ * game, so they stay O(1). Retention is applied as logs are written and read: a log keeps at most
+ * {@code maxVersions} records and nothing that was superseded before the retention period. Logs of deleted
+ * games are dropped once the deletion is older than the retention period, whether or not the catalog has
+ * reclaimed the entry; logs of games removed by a delete-all are swept once that delete-all is as old.
+ *
+ * <p>Only the append runs inside the catalog's write, under the game's lock. Dropping expired logs and
+ * shrinking touch every log, so they run once the write has committed, with no catalog lock held, and one
+ * writer at a time: a writer that finds another one sweeping leaves the work to it or to a later write.
+ *
+ * <p>The retained logs are also held to about {@code maxBytes}. A write that takes them over that size halves the
+ * number of versions kept per game and trims every log to it; once a single version is kept, the logs of
+ * deleted games are dropped before their retention period is over, oldest deletion first, and {@code asOf} no
+ * longer covers the time before the last of them. Either way the history only loses versions it could not
+ * hold, and {@code asOf} rejects the instants it no longer covers rather than answering them in part.
+ */
+@Slf4j
+class GameHistory implements GameCatalog.ChangeListener {
+
+    /** Delete-alls in version order; replaced as a whole when one is added, as they are rare. */
+    static final class Clears {
+
+        private static final Clears NONE = new Clears(new long[0], new long[0]);
+
+        private final long[] versions;
+        private final long[] millis;
+
+        private Clears(long[] versions, long[] millis) {
+            this.versions = versions;
+            this.millis = millis;
+        }
+
+        /**
+         * Returns the index of the first delete-all after the given version, or -1 if there is none.
+         */
+        int firstAfter(long version) {
+            int index = Arrays.binarySearch(versions, version);
+            index = index >= 0 ? index + 1 : -index - 1;
+            return index < versions.length ? index : -1;
+        }
+
+        long version(int index) {
+            return versions[index];
+        }
+
+        long millis(int index) {
+            return millis[index];
+        }
+
+        /**
+         * Returns whether a delete-all was made after {@code after} and by {@code upTo}.
+         */
+        boolean madeBetween(long after, long upTo) {
+            for (long at : millis) {
+                if (at > after && at <= upTo) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the version of the newest delete-all made by the given time and not newer than
+         * {@code maxVersion}, or {@link Long#MIN_VALUE} if there is none.
+         */
+        long versionAt(long at, long maxVersion) {
+            long version = Long.MIN_VALUE;
+            for (int i = 0; i < versions.length && millis[i] <= at && versions[i] <= maxVersion; i++) {
+                version = versions[i];
+            }
+            return version;
+        }
+
+        private Clears add(long version, long at) {
+            int index = firstAfter(version);
+            index = index >= 0 ? index : versions.length;
+            long[] nextVersions = new long[versions.length + 1];
+            long[] nextMillis = new long[millis.length + 1];
+            System.arraycopy(versions, 0, nextVersions, 0, index);
+            System.arraycopy(millis, 0, nextMillis, 0, index);
+            System.arraycopy(versions, index, nextVersions, index + 1, versions.length - index);
+            System.arraycopy(millis, index, nextMillis, index + 1, millis.length - index);
+            nextVersions[index] = version;
+            nextMillis[index] = index > 0 ? Math.max(at, millis[index - 1]) : at;
+            return new Clears(nextVersions, nextMillis);
+        }
+    }
+
+    private record Retired(String name, long millis) {
+    }
+
+    private final int maxVersions;
+    private final int trimSlack;
+    private final long retentionMillis;
+    private final long maxBytes;
+    private final Clock clock;
+    private final Map<String, GameHistoryLog> logs = new ConcurrentHashMap<>();
+    private final Queue<Retired> retired = new ConcurrentLinkedQueue<>();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final Object clearsLock = new Object();
+    private volatile Clears clears = Clears.NONE;
+    // Delete-alls made by this time have left the retention period and their games' logs have been swept
+    private volatile long sweptClearsUntil = Long.MIN_VALUE;
+    // Lowered, and the floor raised, only when the logs outgrow maxBytes
+    private volatile int keptVersions;
+    private volatile long floorMillis = Long.MIN_VALUE;
+    private volatile long shrinkAtBytes;
+
+    /**
+     * @param maxVersions the most versions kept per game; 0 disables history
+     * @param retention   how long superseded versions are kept
+     * @param maxBytes    the size the logs are held to, by shortening retention if need be
+     */
+    GameHistory(int maxVersions, Duration retention, long maxBytes, Clock clock) {
+        this.maxVersions = maxVersions;
+        this.keptVersions = maxVersions;
+        this.trimSlack = Math.max(1, maxVersions / 8);
+        this.retentionMillis = retention.toMillis();
+        this.maxBytes = maxBytes;
+        this.shrinkAtBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    @Override
+    public void changed(String name, long version, Game previous, Game next) {
+        if (maxVersions == 0) {
+            return;
+        }
+        long now = clock.millis();
+        long horizon = horizon(now);
+        GameHistoryLog log = logs.get(name);
+        if (log == null || !append(log, version, now, horizon, previous, next)) {
+            logs.compute(name, (key, current) -> {
+                GameHistoryLog target = current;
+                if (target == null) {
+                    target = new GameHistoryLog(key, version, now);
+                    retainedBytes.addAndGet(target.retainedBytes());
+                }
+                append(target, version, now, horizon, previous, next);
+                return target;
+            });
+        }
+        if (next == null) {
+            retired.add(new Retired(name, now));
+        }
+    }
+
+    @Override
+    public void committed() {
+        if (maxVersions == 0 || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.millis();
+            expire(now);
+            if (retainedBytes.get() > shrinkAtBytes) {
+                shrink(now);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private boolean append(GameHistoryLog log, long version, long now, long horizon, Game previous, Game next) {
+        synchronized (log) {
+            if (log.isRemoved()) {
+                return false;
+            }
+            int before = log.retainedBytes();
+            log.append(version, now, previous, next);
+            log.trim(keptVersions, trimSlack, horizon);
+            retainedBytes.addAndGet(log.retainedBytes() - before);
+            return true;
+        }
+    }
+
+    @Override
+    public void cleared(long version) {
+        if (maxVersions == 0) {
+            return;
+        }
+        synchronized (clearsLock) {
+            clears = clears.add(version, clock.millis());
+        }
+    }
+
+    /**
+     * Returns the retained versions of the named game, oldest first; empty if it has none.
+     */
+    List<GameVersion> history(String name) {
+        long now = clock.millis();
+        expire(now);
+        GameHistoryLog log = logs.get(name);
+        if (log == null) {
+            return List.of();
+        }
+        List<GameVersion> versions = new ArrayList<>();
+        Clears current = clears;
+        synchronized (log) {
+            trim(log, horizon(now), false);
+            log.forEach(current, (version, millis, change, game) ->
+                    versions.add(new GameVersion(version, Instant.ofEpochMilli(millis), change, game)));
+        }
+        return versions;
+    }
+
+    /**
+     * Returns the games as they were at the given time. The time is first resolved to a catalog version, the
+     * newest change installed by then, and every log is read at that version, so the result is one state the
+     * catalog was in rather than a mix of per-game states.
+     *
+     * @param committedVersion a catalog version at or below which every change has been installed
+     * @throws HistoryNotRetainedException if history is disabled, the time is before the retention period or
+     *                                     some game has changed more than {@code maxVersions} times since
+     */
+    List<Game> asOf(Instant time, long committedVersion) {
+        long now = clock.millis();
+        long millis = time.toEpochMilli();
+        if (maxVersions == 0) {
+            throw new HistoryNotRetainedException(HISTORY_DISABLED);
+        }
+        long horizon = horizon(now);
+        if (millis < horizon) {
+            throw new HistoryNotRetainedException(String.format(HISTORY_NOT_RETAINED, time, Duration.ofMillis(now - horizon)));
+        }
+        expire(now);
+        Clears current = clears;
+        long version = current.versionAt(millis, committedVersion);
+        for (GameHistoryLog log : logs.values()) {
+            synchronized (log) {
+                version = Math.max(version, log.versionAt(millis, committedVersion));
+            }
+        }
+        List<Game> games = new ArrayList<>();
+        for (GameHistoryLog log : logs.values()) {
+            synchronized (log) {
+                if (!log.reaches(version)) {
+                    throw new HistoryNotRetainedException(String.format(HISTORY_INCOMPLETE, time, keptVersions));
+                }
+                Game game = log.stateAt(version, current);
+                if (game != null) {
+                    games.add(game);
+                }
+            }
+        }
+        return games;
+    }
+
+    Clears clears() {
+        return clears;
+    }
+
+    /**
+     * Returns an estimate of the memory held by the logs.
+     */
+    long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    private long horizon(long now) {
+        return Math.max(now - retentionMillis, floorMillis);
+    }
+
+    /**
+     * Trims a log to the given horizon, and its buffer to what the records need if {@code compact} is set; the
+     * caller holds the log.
+     */
+    private void trim(GameHistoryLog log, long horizon, boolean compact) {
+        int before = log.retainedBytes();
+        log.trim(keptVersions, 0, horizon);
+        if (compact) {
+            log.compact();
+        }
+        retainedBytes.addAndGet(log.retainedBytes() - before);
+    }
+
+    /**
+     * Drops the logs of games deleted before the retention period.
+     */
+    private void expire(long now) {
+        long horizon = horizon(now);
+        Retired head;
+        while ((head = retired.peek()) != null && head.millis() <= horizon) {
+            if (retired.remove(head)) {
+                drop(head.name(), horizon, clears, false);
+            }
+        }
+        Clears current = clears;
+        if (!current.madeBetween(sweptClearsUntil, horizon)) {
+            return;
+        }
+        synchronized (clearsLock) {
+            if (!current.madeBetween(sweptClearsUntil, horizon)) {
+                return;
+            }
+            sweptClearsUntil = horizon;
+        }
+        for (String name : logs.keySet()) {
+            drop(name, horizon, current, false);
+        }
+    }
+
+    /**
+     * Drops the named log if its game was deleted before the horizon, and trims it to the horizon otherwise.
+     */
+    private void drop(String name, long horizon, Clears current, boolean compact) {
+        logs.computeIfPresent(name, (key, log) -> {
+            synchronized (log) {
+                if (!log.deletedBefore(horizon, current)) {
+                    trim(log, horizon, compact);
+                    return log;
+                }
+                log.markRemoved();
+                retainedBytes.addAndGet(-log.retainedBytes());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Brings the logs back under {@code maxBytes}: first by halving the versions kept per game, then by dropping
+     * the logs of deleted games early. The caller is the one sweeping thread; if the logs still do not fit, for
+     * instance because every live game keeps its current state, the next attempt waits until they have grown by
+     * another eighth of {@code maxBytes}.
+     */
+    private void shrink(long now) {
+        if (keptVersions > 1) {
+            keptVersions = Math.max(1, keptVersions / 2);
+            long horizon = horizon(now);
+            Clears current = clears;
+            for (String name : logs.keySet()) {
+                drop(name, horizon, current, true);
+            }
+            log.warn(LOG_HISTORY_SHRUNK, maxBytes, keptVersions);
+        }
+        Retired head;
+        while (keptVersions == 1 && retainedBytes.get() > maxBytes && (head = retired.poll()) != null) {
+            floorMillis = Math.max(floorMillis, head.millis());
+            drop(head.name(), head.millis(), clears, true);
+        }
+        long used = retainedBytes.get();
+        shrinkAtBytes = used < maxBytes ? maxBytes : used + maxBytes / 8;
+    }
+
+}
@@ -0,0 +1,417 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameChange;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Append-only change log of one game. Each change is a record of a few bytes: the version and time as varint
+ * deltas from the previous record, a flag byte, and only the fields that differ from the previous state.
+ * Retention drops records from the front by folding them into a base state, so the log never needs more than
+ * the base, the retained records and a reference to the current game. Not thread-safe; {@link GameHistory}
+ * synchronizes on the log.
+ */
+final class GameHistoryLog {
+
+    private static final int PRESENT = 1;
+    private static final int ACTIVE = 1 << 1;
+    private static final int CREATED = 1 << 2;
+    private static final int NAME = 1 << 3;
+    private static final int CREATION_DATE = 1 << 4;
+    private static final int ACTIVE_FROM = 1 << 5;
+    private static final int ACTIVE_UNTIL = 1 << 6;
+
+    private static final int INITIAL_CAPACITY = 16;
+    // The log object, its base and last states and the map node holding it, besides the record bytes
+    private static final int LOG_OVERHEAD_BYTES = 160;
+    // Two varlongs, the flags and three optional varlong fields; the name is added separately
+    private static final int MAX_FIXED_RECORD_BYTES = 10 + 10 + 1 + 3 * 10;
+
+    private final String key;
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+    private int count;
+
+    // The state before the first retained record; the deltas of that record are relative to it
+    private Game baseGame;
+    private long baseVersion;
+    private long baseMillis;
+    private boolean truncated;
+
+    // The state after the last record; the deltas of the next record are relative to it
+    private Game lastGame;
+    private long lastVersion;
+    private long lastMillis;
+
+    // When the first record was superseded, the earliest time retention by age can drop it
+    private long supersededAt = Long.MAX_VALUE;
+    private boolean removed;
+
+    GameHistoryLog(String key, long version, long millis) {
+        this.key = key;
+        this.baseVersion = this.lastVersion = version;
+        this.baseMillis = this.lastMillis = millis;
+    }
+
+    /**
+     * Appends a change. Times are kept non-decreasing, so a clock step backwards is recorded as no time passing.
+     */
+    void append(long version, long millis, Game previous, Game next) {
+        millis = Math.max(millis, lastMillis);
+        Game reference = lastGame != null ? lastGame : prototype();
+        int flags = 0;
+        String name = null;
+        if (next != null) {
+            flags |= PRESENT;
+            flags |= next.isActive() ? ACTIVE : 0;
+            flags |= previous == null ? CREATED : 0;
+            if (!Objects.equals(next.getName(), reference.getName())) {
+                flags |= NAME;
+                name = next.getName();
+            }
+            flags |= Objects.equals(next.getCreationDate(), reference.getCreationDate()) ? 0 : CREATION_DATE;
+            flags |= Objects.equals(next.getActiveFrom(), reference.getActiveFrom()) ? 0 : ACTIVE_FROM;
+            flags |= Objects.equals(next.getActiveUntil(), reference.getActiveUntil()) ? 0 : ACTIVE_UNTIL;
+        }
+        byte[] nameBytes = name != null ? name.getBytes(StandardCharsets.UTF_8) : null;
+        ensureCapacity(MAX_FIXED_RECORD_BYTES + (nameBytes != null ? 5 + nameBytes.length : 0));
+        writeVarLong(version - lastVersion);
+        writeVarLong(millis - lastMillis);
+        data[end++] = (byte) flags;
+        if ((flags & NAME) != 0) {
+            writeVarLong(nameBytes.length);
+            System.arraycopy(nameBytes, 0, data, end, nameBytes.length);
+            end += nameBytes.length;
+        }
+        if ((flags & CREATION_DATE) != 0) {
+            writeVarLong(encodeNullable(next.getCreationDate() != null ? next.getCreationDate().toEpochDay() : null));
+        }
+        if ((flags & ACTIVE_FROM) != 0) {
+            writeVarLong(encodeInstant(next.getActiveFrom(), millis));
+        }
+        if ((flags & ACTIVE_UNTIL) != 0) {
+            writeVarLong(encodeInstant(next.getActiveUntil(), millis));
+        }
+        count++;
+        if (count == 2) {
+            supersededAt = millis;
+        }
+        lastGame = next;
+        lastVersion = version;
+        lastMillis = millis;
+    }
+
+    /**
+     * Drops the oldest records while there are more than {@code maxVersions}, or while the record after them
+     * was already in place at {@code horizonMillis}, so the log can still tell the state at any time from
+     * the horizon on. Nothing is done until there are more than {@code maxVersions + slack} records, so the
+     * cost of folding records into the base is shared by a batch of them.
+     */
+    void trim(int maxVersions, int slack, long horizonMillis) {
+        if (count <= maxVersions + slack && supersededAt > horizonMillis) {
+            return;
+        }
+        Cursor base = new Cursor();
+        Cursor candidate = new Cursor();
+        int dropped = 0;
+        while (count - dropped > 1) {
+            candidate.copyFrom(base);
+            candidate.next();
+            if (count - dropped <= maxVersions && candidate.peekMillis() > horizonMillis) {
+                break;
+            }
+            base.copyFrom(candidate);
+            dropped++;
+        }
+        if (dropped == 0) {
+            return;
+        }
+        baseGame = base.game();
+        baseVersion = base.version;
+        baseMillis = base.millis;
+        truncated = true;
+        start = base.position;
+        count -= dropped;
+        if (count > 1) {
+            base.next();
+            supersededAt = base.peekMillis();
+        } else {
+            supersededAt = Long.MAX_VALUE;
+        }
+        if (end - start < data.length / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * Shrinks the buffer to what the retained records need.
+     */
+    void compact() {
+        int capacity = Math.max(INITIAL_CAPACITY, end - start);
+        if (capacity < data.length) {
+            data = Arrays.copyOfRange(data, start, start + capacity);
+            end -= start;
+            start = 0;
+        }
+    }
+
+    /**
+     * Returns the version of the newest record that was in place at the given time and is not newer than
+     * {@code maxVersion}, or {@link Long#MIN_VALUE} if there is none.
+     */
+    long versionAt(long millis, long maxVersion) {
+        Cursor cursor = new Cursor();
+        if (cursor.millis > millis || cursor.version > maxVersion) {
+            return Long.MIN_VALUE;
+        }
+        while (cursor.position < end && cursor.peekMillis() <= millis && cursor.peekVersion() <= maxVersion) {
+            cursor.next();
+        }
+        return cursor.version;
+    }
+
+    /**
+     * Returns the state at the given catalog version, or {@code null} if the game did not exist or the log no
+     * longer reaches back that far; {@link #reaches(long)} tells the two apart.
+     *
+     * @param clears the catalog-wide delete-alls, which hide a game without a record of its own
+     */
+    Game stateAt(long version, GameHistory.Clears clears) {
+        Cursor cursor = new Cursor();
+        while (cursor.position < end && cursor.peekVersion() <= version) {
+            cursor.next();
+        }
+        if (!cursor.present) {
+            return null;
+        }
+        int clear = clears.firstAfter(cursor.version);
+        if (clear >= 0 && clears.version(clear) <= version) {
+            return null;
+        }
+        return cursor.game();
+    }
+
+    /**
+     * Returns whether the log still knows the state at the given catalog version.
+     */
+    boolean reaches(long version) {
+        return !truncated || version >= baseVersion;
+    }
+
+    /**
+     * Returns whether the game has been deleted since before the given time, so the log is no longer needed
+     * to answer anything within retention.
+     */
+    boolean deletedBefore(long horizonMillis, GameHistory.Clears clears) {
+        if (lastGame == null) {
+            return lastMillis <= horizonMillis;
+        }
+        int clear = clears.firstAfter(lastVersion);
+        return clear >= 0 && clears.millis(clear) <= horizonMillis;
+    }
+
+    /**
+     * Replays the retained records, oldest first, including the deletions caused by delete-alls.
+     */
+    void forEach(GameHistory.Clears clears, VersionConsumer consumer) {
+        Cursor cursor = new Cursor();
+        boolean present = cursor.present;
+        long version = cursor.version;
+        while (cursor.position < end) {
+            cursor.next();
+            if (present) {
+                emitClear(clears, version, cursor.version, consumer);
+            }
+            GameChange change = !cursor.present ? GameChange.DELETED
+                    : cursor.created ? GameChange.CREATED : GameChange.UPDATED;
+            consumer.accept(cursor.version, cursor.millis, change, cursor.present ? cursor.game() : null);
+            present = cursor.present;
+            version = cursor.version;
+        }
+        if (present) {
+            emitClear(clears, version, Long.MAX_VALUE, consumer);
+        }
+    }
+
+    private static void emitClear(GameHistory.Clears clears, long after, long before, VersionConsumer consumer) {
+        int clear = clears.firstAfter(after);
+        if (clear >= 0 && clears.version(clear) < before) {
+            consumer.accept(clears.version(clear), clears.millis(clear), GameChange.DELETED, null);
+        }
+    }
+
+    /**
+     * Returns an estimate of the memory held by the log, including the unused part of its buffer.
+     */
+    int retainedBytes() {
+        return LOG_OVERHEAD_BYTES + data.length;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Marks the log as dropped from the history, so a writer that still holds it knows to start a new one.
+     */
+    void markRemoved() {
+        removed = true;
+    }
+
+    boolean isRemoved() {
+        return removed;
+    }
+
+    @FunctionalInterface
+    interface VersionConsumer {
+        void accept(long version, long millis, GameChange change, Game game);
+    }
+
+    private Game prototype() {
+        return new Game(key, null, false);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (end + bytes <= data.length) {
+            return;
+        }
+        int used = end - start;
+        byte[] target = data;
+        if (used + bytes > data.length / 2) {
+            int capacity = data.length;
+            while (capacity < 2 * (used + bytes)) {
+                capacity *= 2;
+            }
+            target = new byte[capacity];
+        }
+        System.arraycopy(data, start, target, 0, used);
+        data = target;
+        start = 0;
+        end = used;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[end++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[end++] = (byte) value;
+    }
+
+    private static long encodeNullable(Long value) {
+        return value == null ? 0 : zigZag(value) + 1;
+    }
+
+    private static long encodeInstant(Instant instant, long millis) {
+        return encodeNullable(instant != null ? instant.toEpochMilli() - millis : null);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /** Decodes the records one by one, starting from the base state. */
+    private final class Cursor {
+
+        private int position = start;
+        private long version = baseVersion;
+        private long millis = baseMillis;
+        private boolean present = baseGame != null;
+        private boolean created;
+        private String name = baseGame != null ? baseGame.getName() : key;
+        private LocalDate creationDate = baseGame != null ? baseGame.getCreationDate() : null;
+        private boolean active = baseGame != null && baseGame.isActive();
+        private Instant activeFrom = baseGame != null ? baseGame.getActiveFrom() : null;
+        private Instant activeUntil = baseGame != null ? baseGame.getActiveUntil() : null;
+
+        void copyFrom(Cursor other) {
+            position = other.position;
+            version = other.version;
+            millis = other.millis;
+            present = other.present;
+            created = other.created;
+            name = other.name;
+            creationDate = other.creationDate;
+            active = other.active;
+            activeFrom = other.activeFrom;
+            activeUntil = other.activeUntil;
+        }
+
+        void next() {
+            version += readVarLong();
+            millis += readVarLong();
+            int flags = data[position++];
+            present = (flags & PRESENT) != 0;
+            created = (flags & CREATED) != 0;
+            if (!present) {
+                name = key;
+                creationDate = null;
+                active = false;
+                activeFrom = activeUntil = null;
+                return;
+            }
+            active = (flags & ACTIVE) != 0;
+            if ((flags & NAME) != 0) {
+                int length = (int) readVarLong();
+                name = new String(data, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            if ((flags & CREATION_DATE) != 0) {
+                long value = readVarLong();
+                creationDate = value == 0 ? null : LocalDate.ofEpochDay(unZigZag(value - 1));
+            }
+            if ((flags & ACTIVE_FROM) != 0) {
+                activeFrom = readInstant();
+            }
+            if ((flags & ACTIVE_UNTIL) != 0) {
+                activeUntil = readInstant();
+            }
+        }
+
+        long peekVersion() {
+            int saved = position;
+            long next = version + readVarLong();
+            position = saved;
+            return next;
+        }
+
+        long peekMillis() {
+            int saved = position;
+            readVarLong();
+            long next = millis + readVarLong();
+            position = saved;
+            return next;
+        }
+
+        Game game() {
+            return present ? new Game(name, creationDate, active, activeFrom, activeUntil) : null;
+        }
+
+        private Instant readInstant() {
+            long value = readVarLong();
+            return value == 0 ? null : Instant.ofEpochMilli(millis + unZigZag(value - 1));
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,346 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.modal.ImportReport;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
+import com.ms.gamemanagement.service.GameImportService;
+import com.ms.gamemanagement.service.GameService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Bulk import. The file is split recursively on line boundaries into ranges of at most
+ * {@code games.import.split-bytes}; each range is memory-mapped, parsed and inserted in chunks by a
+ * fork-join worker, so parsing scales with cores and no range ever holds more than one chunk in memory.
+ * Each chunk is one call to {@link GameService#createGames(List)}, which still writes the games one by one.
+ *
+ * <p>Background imports are catalog jobs: they run on fewer workers, and every chunk ends with the job's
+ * {@link CatalogJobService.JobContext#endChunk()}, which pauses so foreground requests are not starved and
+ * stops the import once it is cancelled. However an import ends, every worker has stopped before the file is
+ * closed and the import returns or throws, so a finished job never has games still being inserted behind it.
+ */
+@Slf4j
+@Service
+public class GameImportServiceImpl implements GameImportService {
+
+    private static final int SAMPLE_LIMIT = 100;
+    private static final int SCAN_BUFFER_BYTES = 8 * 1024;
+
+    // Imports outside a job have the machine to themselves, so chunks end without a pause
+    private static final CatalogJobService.JobContext UNTHROTTLED = new CatalogJobService.JobContext() {
+        @Override
+        public int chunkSize() {
+            return 0;
+        }
+
+        @Override
+        public void endChunk() {
+        }
+    };
+
+    private final GameService gameService;
+    private final CatalogJobService catalogJobService;
+    private final ObjectReader gameReader;
+    private final Path importDirectory;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int jobParallelism;
+    private final long splitBytes;
+
+    public GameImportServiceImpl(
+            GameService gameService,
+            CatalogJobService catalogJobService,
+            ObjectMapper objectMapper,
+            @Value("${games.import.directory:imports}") Path importDirectory,
+            @Value("${games.import.chunk-size:1000}") int chunkSize,
+            @Value("${games.import.parallelism:0}") int parallelism,
+            @Value("${games.import.job-parallelism:0}") int jobParallelism,
+            @Value("${games.import.split-bytes:8388608}") long splitBytes) {
+        this.gameService = gameService;
+        this.catalogJobService = catalogJobService;
+        this.gameReader = objectMapper.readerFor(Game.class);
+        this.importDirectory = importDirectory.toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.parallelism = parallelism > 0 ? parallelism : processors;
+        this.jobParallelism = jobParallelism > 0 ? jobParallelism : Math.max(1, processors / 2);
+        this.splitBytes = splitBytes;
+    }
+
+    @Override
+    public ImportReport importFile(Path file, ImportFormat format) throws IOException {
+        return importFile(file, format, parallelism, UNTHROTTLED, rows -> { });
+    }
+
+    @Override
+    public CatalogJob submitImport(String fileName, ImportFormat format) {
+        Path file = importDirectory.resolve(fileName).normalize();
+        if (!file.startsWith(importDirectory) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("No such file in the import directory: " + fileName);
+        }
+        return catalogJobService.submit(JobType.IMPORT, (job, context) -> {
+            try {
+                ImportReport report = importFile(file, format, jobParallelism, context, job::setProcessed);
+                job.setTotal(report.rows());
+                job.setAffected(report.imported());
+                job.setResult(report);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private ImportReport importFile(Path file, ImportFormat format, int workers, CatalogJobService.JobContext context,
+                                    LongConsumer progress) throws IOException {
+        long start = System.nanoTime();
+        ImportTally tally;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ImportRun run = new ImportRun(channel, new GameRecordParser(format, gameReader), context, progress);
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                tally = pool.invoke(new ImportTask(run, 0, channel.size()));
+            } catch (UncheckedIOException e) {
+                log.error(LOG_IMPORT_FAILED, file, e);
+                throw e.getCause();
+            } catch (CancellationException e) {
+                throw new CancellationException("Import of " + file + " cancelled");
+            } finally {
+                stop(run, pool);
+            }
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        ImportReport report = new ImportReport(file.toString(), tally.rows, tally.imported, tally.duplicates,
+                tally.malformed, List.copyOf(tally.duplicateNames), List.copyOf(tally.errors),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), tally.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        log.info(LOG_IMPORTED_FILE, file, report.rows(), report.imported(), report.duplicates(), report.malformed(),
+                report.elapsedMillis(), report.rowsPerSecond());
+        return report;
+    }
+
+    /**
+     * Stops the tasks of an import that may still be running, because a sibling failed or the import was
+     * cancelled, and waits for the workers to finish before reporting the final progress. Waiting cannot be
+     * interrupted: the caller is about to close the file the workers read.
+     */
+    private static void stop(ImportRun run, ForkJoinPool pool) {
+        run.stopped = true;
+        pool.shutdownNow();
+        boolean interrupted = false;
+        while (!pool.isTerminated()) {
+            try {
+                pool.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        run.progress.accept(run.rowsDone.get());
+    }
+
+    /** Counts for one range of the file; ranges are merged as the fork-join tasks complete. */
+    private static final class ImportTally {
+
+        private long rows;
+        private long imported;
+        private long duplicates;
+        private long malformed;
+        private final List<String> duplicateNames = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        ImportTally merge(ImportTally other) {
+            rows += other.rows;
+            imported += other.imported;
+            duplicates += other.duplicates;
+            malformed += other.malformed;
+            addSamples(duplicateNames, other.duplicateNames);
+            addSamples(errors, other.errors);
+            return this;
+        }
+
+        private static void addSamples(List<String> samples, List<String> more) {
+            for (int i = 0; i < more.size() && samples.size() < SAMPLE_LIMIT; i++) {
+                samples.add(more.get(i));
+            }
+        }
+    }
+
+    /** State shared by all tasks of one import. */
+    private final class ImportRun {
+
+        private final FileChannel channel;
+        private final GameRecordParser parser;
+        private final CatalogJobService.JobContext context;
+        private final LongConsumer progress;
+        private final AtomicLong rowsDone = new AtomicLong();
+        // Set once the import is over; tasks still running stop at their next chunk
+        private volatile boolean stopped;
+
+        ImportRun(FileChannel channel, GameRecordParser parser, CatalogJobService.JobContext context,
+                  LongConsumer progress) {
+            this.channel = channel;
+            this.parser = parser;
+            this.context = context;
+            this.progress = progress;
+        }
+
+        /**
+         * Returns the start of the first line beginning at or after {@code position}, or {@code end} if the
+         * range has no further line break.
+         */
+        long nextLineStart(long position, long end) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+            long offset = position - 1;
+            while (offset < end) {
+                buffer.clear();
+                int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    return end;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return Math.min(end, offset + i + 1);
+                    }
+                }
+                offset += read;
+            }
+            return end;
+        }
+
+        ImportTally importRange(long start, long end) throws IOException {
+            checkStopped();
+            ImportTally tally = new ImportTally();
+            long length = end - start;
+            if (length == 0) {
+                return tally;
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Line at byte " + start + " is too long to import");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            List<Game> chunk = new ArrayList<>(chunkSize);
+            byte[] line = new byte[256];
+            int lineStart = 0;
+            int size = (int) length;
+            for (int i = 0; i <= size; i++) {
+                if (i < size && buffer.get(i) != '\n') {
+                    continue;
+                }
+                int lineLength = i - lineStart;
+                if (lineLength > 0 && buffer.get(i - 1) == '\r') {
+                    lineLength--;
+                }
+                if (lineLength > line.length) {
+                    line = new byte[Math.max(lineLength, line.length * 2)];
+                }
+                buffer.get(lineStart, line, 0, lineLength);
+                handleLine(new String(line, 0, lineLength, StandardCharsets.UTF_8), start + lineStart, chunk, tally);
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, tally);
+                }
+                lineStart = i + 1;
+            }
+            flush(chunk, tally);
+            return tally;
+        }
+
+        private void handleLine(String line, long offset, List<Game> chunk, ImportTally tally) {
+            if (line.isBlank() || (offset == 0 && parser.isHeader(line))) {
+                return;
+            }
+            tally.rows++;
+            try {
+                chunk.add(parser.parse(line));
+            } catch (IllegalArgumentException e) {
+                tally.malformed++;
+                if (tally.errors.size() < SAMPLE_LIMIT) {
+                    tally.errors.add("byte " + offset + ": " + e.getMessage());
+                }
+            }
+        }
+
+        private void checkStopped() {
+            if (stopped) {
+                throw new CancellationException();
+            }
+        }
+
+        private void flush(List<Game> chunk, ImportTally tally) {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            checkStopped();
+            List<String> duplicateNames = gameService.createGames(chunk);
+            tally.imported += chunk.size() - duplicateNames.size();
+            tally.duplicates += duplicateNames.size();
+            ImportTally.addSamples(tally.duplicateNames, duplicateNames);
+            progress.accept(rowsDone.addAndGet(chunk.size()));
+            chunk.clear();
+            try {
+                context.endChunk();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+    }
+
+    private final class ImportTask extends RecursiveTask<ImportTally> {
+
+        private final ImportRun run;
+        private final long start;
+        private final long end;
+
+        ImportTask(ImportRun run, long start, long end) {
+            this.run = run;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ImportTally compute() {
+            try {
+                if (end - start > splitBytes) {
+                    long middle = run.nextLineStart(start + (end - start) / 2, end);
+                    if (middle > start && middle < end) {
+                        ImportTask left = new ImportTask(run, start, middle);
+                        left.fork();
+                        ImportTally right = new ImportTask(run, middle, end).compute();
+                        return left.join().merge(right);
+                    }
+                }
+                return run.importRange(start, end);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
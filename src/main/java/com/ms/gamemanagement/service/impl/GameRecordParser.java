@@ -0,0 +1,139 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.ImportFormat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns one line of an import file into a {@link Game}. Thread-safe; a single instance is shared by all
+ * parsing tasks of an import.
+ */
+class GameRecordParser {
+
+    private static final String CSV_HEADER = "name,";
+
+    private final ImportFormat format;
+    private final ObjectReader gameReader;
+
+    GameRecordParser(ImportFormat format, ObjectReader gameReader) {
+        this.format = format;
+        this.gameReader = gameReader;
+    }
+
+    /**
+     * Returns whether the first line of a file is a header rather than a record.
+     */
+    boolean isHeader(String firstLine) {
+        return format == ImportFormat.CSV && firstLine.regionMatches(true, 0, CSV_HEADER, 0, CSV_HEADER.length());
+    }
+
+    /**
+     * Parses one record.
+     *
+     * @throws IllegalArgumentException if the line is not a valid game
+     */
+    Game parse(String line) {
+        Game game = format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+        if (game.getName() == null || game.getName().isBlank()) {
+            throw new IllegalArgumentException("missing name");
+        }
+        if (game.getActiveFrom() != null && game.getActiveUntil() != null
+                && !game.getActiveFrom().isBefore(game.getActiveUntil())) {
+            throw new IllegalArgumentException("activeFrom must be before activeUntil");
+        }
+        return game;
+    }
+
+    private Game parseJson(String line) {
+        try {
+            Game game = gameReader.readValue(line);
+            if (game == null) {
+                throw new IllegalArgumentException("not a game object");
+            }
+            return game;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+
+    private static Game parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 3) {
+            throw new IllegalArgumentException("expected name,creationDate,active but got " + fields.size() + " fields");
+        }
+        return new Game(fields.get(0), parseDate(fields.get(1).trim()), parseBoolean(fields.get(2).trim()),
+                parseInstant(fields, 3, "activeFrom"), parseInstant(fields, 4, "activeUntil"));
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid creationDate '" + value + "'");
+        }
+    }
+
+    private static Instant parseInstant(List<String> fields, int index, String column) {
+        String value = index < fields.size() ? fields.get(index).trim() : "";
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value) || value.isEmpty()) {
+            return false;
+        }
+        throw new IllegalArgumentException("invalid active flag '" + value + "'");
+    }
+
+    /**
+     * Splits a CSV line, honouring double-quoted fields with {@code ""} as an escaped quote.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(6);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
@@ -1,91 +1,370 @@
 package com.ms.gamemanagement.service.impl;
 
+import com.ms.gamemanagement.concurrent.SingleFlight;
 import com.ms.gamemanagement.exception.DuplicateGameException;
 import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.jfr.GameOperationEvent;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
 import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameVersion;
+import com.ms.gamemanagement.service.GameCatalogMaintenance;
 import com.ms.gamemanagement.service.GameService;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import static com.ms.gamemanagement.constants.GameConstants.*;
 
 @Slf4j
 @Service
-@NoArgsConstructor
-public class GameServiceImpl implements GameService {
+public class GameServiceImpl implements GameService, GameCatalogMaintenance {
 
-    private final Map<String, Game> gameCache = new ConcurrentHashMap<>();
+    private static final int DEFAULT_HISTORY_VERSIONS = 100;
+    private static final Duration DEFAULT_HISTORY_RETENTION = Duration.ofDays(7);
+    private static final long DEFAULT_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
+
+    // Every change is also appended to the history as it is installed in the catalog
+    private final GameHistory history;
+
+    // Stored games are copies and are never modified in place, so readers can share them; callers get copies
+    private final GameCatalog catalog;
+
+    // Concurrent reads of the same game that require the same catalog version share one lookup and one copy
+    private final SingleFlight<GameRead, Game> gameReads = new SingleFlight<>();
+
+    // Concurrent snapshots of the same catalog version share one copy instead of each building their own
+    private final SingleFlight<Long, CatalogSnapshot> catalogReads = new SingleFlight<>();
+
+    // The newest snapshot handed out, as copies of the stored games; shared by every caller until the next write
+    private final AtomicReference<CatalogSnapshot> published = new AtomicReference<>(new CatalogSnapshot(0, List.of()));
+
+    // Timers for the next boundary of each scheduled game's activation window
+    private final GameActivations activations;
+
+    public GameServiceImpl() {
+        this(DEFAULT_HISTORY_VERSIONS, DEFAULT_HISTORY_RETENTION, DEFAULT_HISTORY_MAX_BYTES);
+    }
+
+    /**
+     * @param historyVersions  the most versions kept per game; 0 disables history
+     * @param historyRetention how long superseded versions are kept
+     * @param historyMaxBytes  the size history is held to, by keeping versions for less than the retention
+     */
+    @Autowired
+    public GameServiceImpl(
+            @Value("${games.history.max-versions:100}") int historyVersions,
+            @Value("${games.history.retention:7d}") Duration historyRetention,
+            @Value("${games.history.max-bytes:67108864}") long historyMaxBytes) {
+        this(historyVersions, historyRetention, historyMaxBytes, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock the clock that versions are timestamped with and activation windows are evaluated against
+     */
+    public GameServiceImpl(int historyVersions, Duration historyRetention, long historyMaxBytes, Clock clock) {
+        this.history = new GameHistory(historyVersions, historyRetention, historyMaxBytes, clock);
+        this.catalog = new GameCatalog(history);
+        this.activations = new GameActivations(clock, this::applyTransition);
+    }
 
     @Override
     public Optional<Game> createGame(Game game) throws DuplicateGameException {
         String gameName = game.getName();
-        if (gameCache.containsKey(gameName)) {
-            log.warn(GAME_ALREADY_EXISTS, gameName);
-            throw new DuplicateGameException("Game already exists with name: " + gameName);
+        GameOperationEvent event = GameOperationEvent.start("createGame", gameName);
+        try {
+            Game createdGame = game.toBuilder().build();
+            activations.validate(createdGame);
+            Game existingGame = catalog.write(gameName, current -> insert(gameName, current, createdGame));
+            if (existingGame != null) {
+                event.fail(OUTCOME_DUPLICATE);
+                log.warn(GAME_ALREADY_EXISTS, gameName);
+                throw new DuplicateGameException("Game already exists with name: " + gameName);
+            }
+            event.succeed(1);
+            log.info(CREATED_GAME, createdGame);
+            return Optional.of(detach(createdGame));
+        } finally {
+            event.finish(catalog::storedSize);
         }
-        gameCache.put(gameName, game);
-        log.info(CREATED_GAME, game);
-        return Optional.of(game);
     }
 
     @Override
-    public Optional<Game> getGame(String name) {
-        Game game = gameCache.get(name);
-        if (game != null) {
-            log.info(RETRIEVED_GAME, game);
-            return Optional.of(game);
+    public List<String> createGames(List<Game> games) {
+        GameOperationEvent event = GameOperationEvent.start("createGames", null);
+        try {
+            List<String> duplicateNames = new ArrayList<>();
+            for (Game game : games) {
+                Game createdGame = game.toBuilder().build();
+                activations.validate(createdGame);
+                if (catalog.write(game.getName(), current -> insert(game.getName(), current, createdGame)) != null) {
+                    duplicateNames.add(game.getName());
+                }
+            }
+            event.succeed(games.size() - duplicateNames.size());
+            log.debug(LOG_CREATED_GAMES, games.size() - duplicateNames.size(), duplicateNames.size());
+            return duplicateNames;
+        } finally {
+            event.finish(catalog::storedSize);
         }
-        log.warn(GAME_NOT_FOUND, name);
-        return Optional.empty();
     }
 
     @Override
-    public Optional<Game> updateGame(String name, Game updatedGame) throws GameNotFoundException {
-        if (!gameCache.containsKey(name)) {
+    public Optional<Game> getGame(String name) {
+        GameOperationEvent event = GameOperationEvent.start("getGame", name);
+        try {
+            // As for snapshots, a shared read covers every write that completed before any of its callers
+            long required = catalog.latestVersion();
+            Game game = gameReads.execute(new GameRead(name, required), () -> {
+                Game stored = catalog.get(name, required);
+                return stored != null ? detach(stored) : null;
+            });
+            if (game != null) {
+                event.succeed(1);
+                log.info(RETRIEVED_GAME, game);
+                return Optional.of(game);
+            }
+            event.fail(OUTCOME_NOT_FOUND);
             log.warn(GAME_NOT_FOUND, name);
-            throw new GameNotFoundException("Game not found with name: " + name);
+            return Optional.empty();
+        } finally {
+            event.finish(catalog::storedSize);
         }
+    }
 
-        Game existingGame = gameCache.get(name);
-        existingGame.setName(updatedGame.getName());
-        existingGame.setCreationDate(updatedGame.getCreationDate());
-        existingGame.setActive(updatedGame.isActive());
+    @Override
+    public Optional<Game> updateGame(String name, Game updatedGame) throws GameNotFoundException {
+        GameOperationEvent event = GameOperationEvent.start("updateGame", name);
+        try {
+            Game existingGame = updatedGame.toBuilder().build();
+            activations.validate(existingGame);
+            Game previousGame = catalog.write(name, current -> {
+                if (current == null) {
+                    return null;
+                }
+                activations.reschedule(name, existingGame);
+                return existingGame;
+            });
+            if (previousGame == null) {
+                event.fail(OUTCOME_NOT_FOUND);
+                log.warn(GAME_NOT_FOUND, name);
+                throw new GameNotFoundException("Game not found with name: " + name);
+            }
+            event.succeed(1);
 
-        log.info(UPDATED_GAME, existingGame);
+            log.info(UPDATED_GAME, existingGame);
 
-        return Optional.of(existingGame);
+            return Optional.of(detach(existingGame));
+        } finally {
+            event.finish(catalog::storedSize);
+        }
     }
 
     @Override
     public void deleteGame(String name) throws GameNotFoundException {
-        Game removedGame = gameCache.remove(name);
-        if (removedGame != null) {
-            log.info(DELETED_GAME, removedGame);
-        } else {
-            log.warn(GAME_NOT_FOUND, name);
-            throw new GameNotFoundException("Game not found with name: " + name);
+        GameOperationEvent event = GameOperationEvent.start("deleteGame", name);
+        try {
+            Game removedGame = catalog.write(name, current -> {
+                activations.cancel(name);
+                return null;
+            });
+            if (removedGame != null) {
+                compactGame(name);
+                event.succeed(1);
+                log.info(DELETED_GAME, removedGame);
+            } else {
+                event.fail(OUTCOME_NOT_FOUND);
+                log.warn(GAME_NOT_FOUND, name);
+                throw new GameNotFoundException("Game not found with name: " + name);
+            }
+        } finally {
+            event.finish(catalog::storedSize);
         }
     }
 
     @Override
     public List<Game> getAllGames() {
-        List<Game> games = new ArrayList<>(gameCache.values());
-        log.info(RETRIEVED_ALL_GAMES, games);
-        return games;
+        return getCatalogSnapshot().games();
+    }
+
+    @Override
+    public CatalogSnapshot getCatalogSnapshot() {
+        GameOperationEvent event = GameOperationEvent.start("getCatalogSnapshot", null);
+        try {
+            // Writes that completed before this call have versions up to this one, and a snapshot requiring it
+            // waits for them to commit, so a shared snapshot never misses a write this caller could have seen
+            long required = catalog.latestVersion();
+            CatalogSnapshot snapshot = catalogReads.execute(required, () -> publish(required));
+            event.succeed(snapshot.games().size());
+            log.info(RETRIEVED_ALL_GAMES, snapshot.games());
+            return snapshot;
+        } finally {
+            event.finish(catalog::storedSize);
+        }
+    }
+
+    @Override
+    public List<GameVersion> getGameHistory(String name) {
+        GameOperationEvent event = GameOperationEvent.start("getGameHistory", name);
+        try {
+            List<GameVersion> versions = history.history(name);
+            if (versions.isEmpty()) {
+                event.fail(OUTCOME_NOT_FOUND);
+                log.warn(GAME_NOT_FOUND, name);
+                return versions;
+            }
+            event.succeed(versions.size());
+            log.info(LOG_RETRIEVED_GAME_HISTORY, versions.size(), name);
+            return versions;
+        } finally {
+            event.finish(catalog::storedSize);
+        }
+    }
+
+    @Override
+    public List<Game> getAllGames(Instant asOf) {
+        GameOperationEvent event = GameOperationEvent.start("getAllGamesAsOf", null);
+        try {
+            List<Game> games = history.asOf(asOf, catalog.committedVersion());
+            event.succeed(games.size());
+            log.info(LOG_RETRIEVED_GAMES_AS_OF, games.size(), asOf);
+            return games;
+        } finally {
+            event.finish(catalog::storedSize);
+        }
     }
 
     @Override
     public int deleteAllGames() {
-        int numDeleted = gameCache.size();
-        gameCache.clear();
+        GameOperationEvent event = GameOperationEvent.start("deleteAllGames", null);
+        try {
+            activations.clear();
+            int numDeleted = catalog.clear();
+            catalog.storedNames().forEach(this::compactGame);
+            event.succeed(numDeleted);
+            log.info(DELETED_ALL_GAMES, numDeleted);
+            return numDeleted;
+        } finally {
+            event.finish(catalog::storedSize);
+        }
+    }
+
+    @Override
+    public int markAllGamesDeleted() {
+        activations.clear();
+        int numDeleted = catalog.clear();
         log.info(DELETED_ALL_GAMES, numDeleted);
         return numDeleted;
     }
 
-}
\ No newline at end of file
+    @Override
+    public Set<String> storedGameNames() {
+        return catalog.storedNames();
+    }
+
+    @Override
+    public int storedGameCount() {
+        return catalog.storedSize();
+    }
+
+    @Override
+    public boolean compactGame(String name) {
+        return catalog.compact(name);
+    }
+
+    @Override
+    public boolean reindexGame(String name) {
+        boolean[] changed = new boolean[1];
+        catalog.write(name, current -> {
+            if (current == null) {
+                return null;
+            }
+            Game next = current.toBuilder().build();
+            activations.reschedule(name, next);
+            changed[0] = next.isActive() != current.isActive();
+            return changed[0] ? next : current;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Returns the latest state of the named game without logging or tracing, for internal bookkeeping.
+     */
+    Game peekGame(String name) {
+        return catalog.get(name);
+    }
+
+    /**
+     * Returns the number of callers waiting for a shared read of the named game at the latest version.
+     */
+    int waitingReads(String name) {
+        return gameReads.waiting(new GameRead(name, catalog.latestVersion()));
+    }
+
+    /**
+     * Returns an estimate of the memory held by the version history.
+     */
+    long historyBytes() {
+        return history.retainedBytes();
+    }
+
+    /**
+     * Returns the published snapshot if it covers the required version, and otherwise publishes a new one made of
+     * copies of the stored games. The list is unmodifiable and, like the games in it, shared between callers.
+     */
+    private CatalogSnapshot publish(long required) {
+        CatalogSnapshot current = published.get();
+        if (current.version() >= required) {
+            return current;
+        }
+        CatalogSnapshot stored = catalog.snapshot(required);
+        CatalogSnapshot snapshot = new CatalogSnapshot(stored.version(), stored.games().stream().map(GameServiceImpl::detach).toList());
+        return published.accumulateAndGet(snapshot, (a, b) -> a.version() >= b.version() ? a : b);
+    }
+
+    /**
+     * Returns a copy of a stored game, so callers can never modify what the catalog shares with its readers.
+     */
+    private static Game detach(Game game) {
+        return game.toBuilder().build();
+    }
+
+    private record GameRead(String name, long version) {
+    }
+
+    private Game insert(String name, Game current, Game createdGame) {
+        if (current != null) {
+            return current;
+        }
+        activations.reschedule(name, createdGame);
+        return createdGame;
+    }
+
+    /**
+     * Re-derives the active flag of a game when a boundary of its window passes, unless the window has been
+     * changed since the timer was set. Called by the activation timers.
+     */
+    void applyTransition(GameActivations.Transition transition) {
+        catalog.write(transition.name(), current -> {
+            if (current == null || !transition.matches(current)) {
+                return current;
+            }
+            Game next = current.toBuilder().build();
+            activations.reschedule(transition.name(), next);
+            if (next.isActive() == current.isActive()) {
+                return current;
+            }
+            log.info(LOG_SCHEDULED_TRANSITION, transition.name(), next.isActive() ? "active" : "inactive");
+            return next;
+        });
+    }
+
+}
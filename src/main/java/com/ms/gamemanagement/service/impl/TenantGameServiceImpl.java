@@ -0,0 +1,283 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.DuplicateGameException;
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.InvalidTenantException;
+import com.ms.gamemanagement.exception.TenantBudgetExceededException;
+import com.ms.gamemanagement.exception.TenantQuotaExceededException;
+import com.ms.gamemanagement.exception.TenantUnavailableException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.ratelimit.TokenBucket;
+import com.ms.gamemanagement.service.TenantGameService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * Keeps one {@link TenantStore} per tenant. Stores are created by a tenant's first game, never by reads, and
+ * dropped by a background sweep once they are idle and empty; a store that still holds games is kept, since the
+ * catalog has no other copy of them. That makes every store a slot held until its games are deleted, so new
+ * stores are rate limited across all tenants, and filling the {@code maxTenants} slots takes sustained writes
+ * rather than a burst of requests. Admission and eviction both happen inside the map's per-key lock, so a
+ * request never runs against a store that has just been evicted.
+ */
+@Slf4j
+@Service
+public class TenantGameServiceImpl implements TenantGameService {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,63}");
+
+    /** A store with the meters registered for it. */
+    private record Tenant(TenantStore store, Timer requests, Counter overQuota, Counter busy, Counter overBudget,
+                          List<Meter> meters) {
+    }
+
+    private final Map<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final LongSupplier nanoClock = System::nanoTime;
+    private final int maxTenants;
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxConcurrency;
+    private final long maxBytes;
+    private final long idleNanos;
+    private final TokenBucket creationQuota;
+    private final Counter tooManyTenants;
+    private final Counter creationRateExceeded;
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tenant-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TenantGameServiceImpl(
+            @Value("${games.tenants.max-tenants:1000}") int maxTenants,
+            @Value("${games.tenants.quota.permits-per-second:200}") double permitsPerSecond,
+            @Value("${games.tenants.quota.burst:400}") int burst,
+            @Value("${games.tenants.max-concurrency:16}") int maxConcurrency,
+            @Value("${games.tenants.memory-budget-bytes:67108864}") long maxBytes,
+            @Value("${games.tenants.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${games.tenants.creation.permits-per-second:1}") double creationRate,
+            @Value("${games.tenants.creation.burst:20}") int creationBurst,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.maxTenants = maxTenants;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxConcurrency = maxConcurrency;
+        this.maxBytes = maxBytes;
+        this.idleNanos = idleTimeout.toNanos();
+        this.creationQuota = new TokenBucket(creationRate, creationBurst, nanoClock);
+        this.registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.tooManyTenants = Counter.builder(METRIC_TENANT_REJECTED)
+                .tag("tenant", "none").tag("reason", "too_many_tenants").register(registry);
+        this.creationRateExceeded = Counter.builder(METRIC_TENANT_REJECTED)
+                .tag("tenant", "none").tag("reason", "creation_rate").register(registry);
+        long sweepMillis = Math.max(50, idleTimeout.toMillis() / 2);
+        sweeper.scheduleWithFixedDelay(this::evictIdleTenants, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<Game> createGame(String tenant, Game game) throws DuplicateGameException {
+        Tenant admitted = admitOrCreate(tenant);
+        return call(admitted, tenant, store -> store.createGame(game));
+    }
+
+    @Override
+    public Optional<Game> getGame(String tenant, String name) {
+        Tenant admitted = admit(tenant);
+        return admitted != null ? call(admitted, tenant, store -> store.getGame(name)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<Game> updateGame(String tenant, String name, Game updatedGame) throws GameNotFoundException {
+        Tenant admitted = admit(tenant);
+        if (admitted == null) {
+            throw new GameNotFoundException("Game not found with name: " + name);
+        }
+        return call(admitted, tenant, store -> store.updateGame(name, updatedGame));
+    }
+
+    @Override
+    public void deleteGame(String tenant, String name) throws GameNotFoundException {
+        Tenant admitted = admit(tenant);
+        if (admitted == null) {
+            throw new GameNotFoundException("Game not found with name: " + name);
+        }
+        call(admitted, tenant, store -> {
+            store.deleteGame(name);
+            return null;
+        });
+    }
+
+    @Override
+    public CatalogSnapshot getCatalogSnapshot(String tenant) {
+        Tenant admitted = admit(tenant);
+        return admitted != null ? call(admitted, tenant, TenantStore::getCatalogSnapshot) : new CatalogSnapshot(0, List.of());
+    }
+
+    @Override
+    public int deleteAllGames(String tenant) {
+        Tenant admitted = admit(tenant);
+        return admitted != null ? call(admitted, tenant, TenantStore::deleteAllGames) : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Drops every store that is idle and empty.
+     */
+    private void evictIdleTenants() {
+        for (String id : tenants.keySet()) {
+            Tenant[] removed = new Tenant[1];
+            tenants.computeIfPresent(id, (key, tenant) -> {
+                if (tenant.store().isEvictable(idleNanos)) {
+                    removed[0] = tenant;
+                    return null;
+                }
+                return tenant;
+            });
+            if (removed[0] != null) {
+                removed[0].meters().forEach(registry::remove);
+                log.info(LOG_EVICTED_TENANT, id);
+            }
+        }
+    }
+
+    /**
+     * Runs an operation on an admitted tenant and releases the admission afterwards.
+     */
+    private <T> T call(Tenant tenant, String id, Function<TenantStore, T> operation) {
+        long start = nanoClock.getAsLong();
+        try {
+            return operation.apply(tenant.store());
+        } catch (TenantBudgetExceededException e) {
+            reject(tenant.overBudget(), id, e);
+            throw e;
+        } finally {
+            tenant.store().exit();
+            tenant.requests().record(nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Admits a request for an existing tenant.
+     *
+     * @return the admitted tenant, or {@code null} if the tenant has no store, which means it has no games
+     */
+    private Tenant admit(String id) {
+        validate(id);
+        Tenant[] rejectedBy = new Tenant[1];
+        try {
+            return tenants.computeIfPresent(id, (key, tenant) -> {
+                rejectedBy[0] = tenant;
+                tenant.store().enter();
+                return tenant;
+            });
+        } catch (RuntimeException e) {
+            throw rejected(rejectedBy[0], id, e);
+        }
+    }
+
+    /**
+     * Admits a request for a tenant, creating its store if it has none yet.
+     */
+    private Tenant admitOrCreate(String id) {
+        validate(id);
+        Tenant[] rejectedBy = new Tenant[1];
+        try {
+            return tenants.compute(id, (key, current) -> {
+                Tenant tenant = current;
+                if (tenant == null) {
+                    if (tenants.size() >= maxTenants) {
+                        throw new TenantUnavailableException(String.format(TOO_MANY_TENANTS, key));
+                    }
+                    long waitNanos = creationQuota.tryAcquire();
+                    if (waitNanos > 0) {
+                        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                        throw new TenantQuotaExceededException(String.format(TENANT_CREATION_RATE_EXCEEDED, key),
+                                retryAfterSeconds);
+                    }
+                    tenant = newTenant(key);
+                    log.info(LOG_CREATED_TENANT, key);
+                }
+                rejectedBy[0] = tenant;
+                tenant.store().enter();
+                return tenant;
+            });
+        } catch (RuntimeException e) {
+            throw rejected(rejectedBy[0], id, e);
+        }
+    }
+
+    private static void validate(String id) {
+        if (id == null || !TENANT_ID.matcher(id).matches()) {
+            throw new InvalidTenantException(String.format(INVALID_TENANT, id));
+        }
+    }
+
+    /**
+     * Counts a rejected admission against the tenant it was for, or against all tenants if it was rejected
+     * before the tenant had a store.
+     */
+    private RuntimeException rejected(Tenant tenant, String id, RuntimeException e) {
+        if (e instanceof TenantQuotaExceededException) {
+            reject(tenant != null ? tenant.overQuota() : creationRateExceeded, id, e);
+        } else if (e instanceof TenantUnavailableException) {
+            reject(tenant != null ? tenant.busy() : tooManyTenants, id, e);
+        }
+        return e;
+    }
+
+    private static void reject(Counter counter, String id, RuntimeException e) {
+        counter.increment();
+        log.debug(LOG_TENANT_REJECTED, id, e.getMessage());
+    }
+
+    private Tenant newTenant(String id) {
+        TenantStore store = new TenantStore(id, permitsPerSecond, burst, maxConcurrency, maxBytes, nanoClock);
+        Tags tags = Tags.of("tenant", id);
+        Timer requests = Timer.builder(METRIC_TENANT_REQUESTS).tags(tags).register(registry);
+        Counter overQuota = rejections(tags, "quota");
+        Counter busy = rejections(tags, "busy");
+        Counter overBudget = rejections(tags, "budget");
+        Gauge games = Gauge.builder(METRIC_TENANT_GAMES, store, TenantStore::storedGameCount)
+                .tags(tags).register(registry);
+        Gauge memory = Gauge.builder(METRIC_TENANT_MEMORY_USED, store, TenantStore::usedBytes)
+                .tags(tags).baseUnit("bytes").register(registry);
+        return new Tenant(store, requests, overQuota, busy, overBudget,
+                List.of(requests, overQuota, busy, overBudget, games, memory));
+    }
+
+    private Counter rejections(Tags tags, String reason) {
+        return Counter.builder(METRIC_TENANT_REJECTED).tags(tags).tag("reason", reason).register(registry);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.DuplicateGameException;
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.TenantBudgetExceededException;
+import com.ms.gamemanagement.exception.TenantQuotaExceededException;
+import com.ms.gamemanagement.exception.TenantUnavailableException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.ratelimit.TokenBucket;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+
+/**
+ * One tenant's games: a catalog of its own plus the limits that keep the tenant from affecting others. An
+ * operation quota bounds its request rate, a bulkhead bounds its concurrent requests, and a memory budget
+ * bounds the estimated size of its stored games. Tenants have no history API, so their catalogs keep no history
+ * and the budget has nothing else to count.
+ *
+ * <p>Memory use is an estimate kept up to date by the writes themselves; concurrent updates of the same game
+ * can make it drift slightly, and a delete-all recomputes it from scratch.
+ */
+class TenantStore {
+
+    // Game, name string, date, catalog revision and map node
+    private static final long GAME_OVERHEAD_BYTES = 160;
+
+    private final String tenant;
+    private final GameServiceImpl games = new GameServiceImpl(0, Duration.ZERO, 0, Clock.systemUTC());
+    private final TokenBucket quota;
+    private final Semaphore bulkhead;
+    private final long maxBytes;
+    private final LongSupplier nanoClock;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long lastUsedNanos;
+
+    TenantStore(String tenant, double permitsPerSecond, int burst, int maxConcurrency, long maxBytes,
+                LongSupplier nanoClock) {
+        this.tenant = tenant;
+        this.quota = new TokenBucket(permitsPerSecond, burst, nanoClock);
+        this.bulkhead = new Semaphore(maxConcurrency);
+        this.maxBytes = maxBytes;
+        this.nanoClock = nanoClock;
+        this.lastUsedNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Admits one request, or throws if the tenant is over its quota or has too many requests in flight. Every
+     * successful call must be paired with {@link #exit()}.
+     */
+    void enter() {
+        long waitNanos = quota.tryAcquire();
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TenantQuotaExceededException(String.format(TENANT_QUOTA_EXCEEDED, tenant), retryAfterSeconds);
+        }
+        if (!bulkhead.tryAcquire()) {
+            throw new TenantUnavailableException(String.format(TENANT_BUSY, tenant));
+        }
+        inFlight.incrementAndGet();
+        lastUsedNanos = nanoClock.getAsLong();
+    }
+
+    void exit() {
+        lastUsedNanos = nanoClock.getAsLong();
+        inFlight.decrementAndGet();
+        bulkhead.release();
+    }
+
+    /**
+     * Returns whether the store can be dropped without losing anything: it holds no games, serves no request,
+     * has a full quota and has not been used for the given time.
+     */
+    boolean isEvictable(long idleNanos) {
+        return inFlight.get() == 0
+                && nanoClock.getAsLong() - lastUsedNanos >= idleNanos
+                && games.storedGameCount() == 0
+                && quota.isFull();
+    }
+
+    Optional<Game> createGame(Game game) throws DuplicateGameException {
+        long size = estimate(game);
+        reserve(size);
+        try {
+            return games.createGame(game);
+        } catch (RuntimeException e) {
+            usedBytes.addAndGet(-size);
+            throw e;
+        }
+    }
+
+    Optional<Game> getGame(String name) {
+        return games.getGame(name);
+    }
+
+    Optional<Game> updateGame(String name, Game updatedGame) throws GameNotFoundException {
+        Game previous = games.peekGame(name);
+        if (previous == null) {
+            return games.updateGame(name, updatedGame);
+        }
+        long growth = estimate(updatedGame) - estimate(previous);
+        reserve(growth);
+        try {
+            return games.updateGame(name, updatedGame);
+        } catch (RuntimeException e) {
+            usedBytes.addAndGet(-growth);
+            throw e;
+        }
+    }
+
+    void deleteGame(String name) throws GameNotFoundException {
+        Game previous = games.peekGame(name);
+        games.deleteGame(name);
+        if (previous != null) {
+            usedBytes.addAndGet(-estimate(previous));
+        }
+    }
+
+    CatalogSnapshot getCatalogSnapshot() {
+        return games.getCatalogSnapshot();
+    }
+
+    int deleteAllGames() {
+        int numDeleted = games.deleteAllGames();
+        usedBytes.set(games.getCatalogSnapshot().games().stream().mapToLong(TenantStore::estimate).sum());
+        return numDeleted;
+    }
+
+    int storedGameCount() {
+        return games.storedGameCount();
+    }
+
+    long usedBytes() {
+        return usedBytes.get();
+    }
+
+    private void reserve(long bytes) {
+        if (bytes <= 0) {
+            usedBytes.addAndGet(bytes);
+            return;
+        }
+        while (true) {
+            long used = usedBytes.get();
+            if (used + bytes > maxBytes) {
+                throw new TenantBudgetExceededException(String.format(TENANT_BUDGET_EXCEEDED, tenant, maxBytes));
+            }
+            if (usedBytes.compareAndSet(used, used + bytes)) {
+                return;
+            }
+        }
+    }
+
+    private static long estimate(Game game) {
+        String name = game.getName();
+        return GAME_OVERHEAD_BYTES + (name != null ? 2L * name.length() : 0);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.ms.gamemanagement.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.service.impl.GameServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of version history on the write path: four threads updating games spread over a catalog of
+ * {@code gameCount} games, with history disabled ({@code historyVersions = 0}) and enabled. Each thread starts
+ * its walk over the games a quarter of the catalog apart from the others, so they update different games
+ * instead of contending for the same one. Compare the two scores for the overhead per update; once every game
+ * has {@code historyVersions} versions, the enabled case also pays for retention. Per-operation logging is
+ * turned off so it does not hide the difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class GameHistoryBenchmark {
+
+    @Param({"0", "100"})
+    public int historyVersions;
+
+    @Param({"100", "100000"})
+    public int gameCount;
+
+    private GameServiceImpl gameService;
+    private Game[][] updates;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        @Setup(Level.Trial)
+        public void start(ThreadParams threads, GameHistoryBenchmark benchmark) {
+            next = threads.getThreadIndex() * (benchmark.gameCount / threads.getThreadCount());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void fillCatalog() {
+        ((Logger) LoggerFactory.getLogger("com.ms.gamemanagement")).setLevel(ch.qos.logback.classic.Level.WARN);
+        gameService = new GameServiceImpl(historyVersions, Duration.ofDays(7), Long.MAX_VALUE);
+        updates = new Game[gameCount][2];
+        for (int i = 0; i < gameCount; i++) {
+            String name = "Game " + i;
+            updates[i][0] = new Game(name, LocalDate.EPOCH, false);
+            updates[i][1] = new Game(name, LocalDate.EPOCH, true);
+            gameService.createGame(updates[i][0]);
+        }
+    }
+
+    @Benchmark
+    public Optional<Game> updateGame(Cursor cursor) {
+        int next = cursor.next++;
+        Game game = updates[Math.floorMod(next * 31, gameCount)][(next / gameCount) & 1];
+        return gameService.updateGame(game.getName(), game);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.ms.gamemanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.modal.ImportReport;
+import com.ms.gamemanagement.service.impl.CatalogJobServiceImpl;
+import com.ms.gamemanagement.service.impl.GameImportServiceImpl;
+import com.ms.gamemanagement.service.impl.GameServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end import of a generated CSV file into an empty catalog. The score is the time for one whole import, so
+ * the throughput in rows per second is {@code rowCount} divided by the score in seconds; compare it across
+ * {@code parallelism} values to see how parsing scales with cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GameImportBenchmark {
+
+    @Param({"1000000"})
+    public int rowCount;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private Path file;
+    private GameImportServiceImpl importService;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("games", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("name,creationDate,active\n");
+            for (int i = 0; i < rowCount; i++) {
+                writer.write("Game " + i + ",2024-05-01," + (i % 2 == 0) + "\n");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyCatalog() {
+        GameServiceImpl gameService = new GameServiceImpl();
+        CatalogJobServiceImpl jobService = new CatalogJobServiceImpl(gameService, 1000, 0, 10);
+        importService = new GameImportServiceImpl(gameService, jobService, new ObjectMapper().findAndRegisterModules(),
+                Path.of("imports"), 1000, parallelism, parallelism, 8 * 1024 * 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ImportReport importCsv() throws IOException {
+        return importService.importFile(file, ImportFormat.CSV);
+    }
+
+}
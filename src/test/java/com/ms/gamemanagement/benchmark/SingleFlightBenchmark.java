@@ -0,0 +1,52 @@
+package com.ms.gamemanagement.benchmark;
+
+import com.ms.gamemanagement.concurrent.SingleFlight;
+import com.ms.gamemanagement.modal.Game;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thundering herd on a single hot game: every benchmark thread asks for the same key at once. The loader
+ * stands in for a cold-tier lookup (a park for the I/O wait plus some CPU for deserialization), which is the
+ * case request coalescing is meant for; with {@code coldReadMicros = 0} it measures the coalescing overhead
+ * on a pure in-memory hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class SingleFlightBenchmark {
+
+    private static final String HOT_GAME = "Chess";
+
+    @Param({"0", "50", "500"})
+    public long coldReadMicros;
+
+    private final SingleFlight<String, Game> singleFlight = new SingleFlight<>();
+
+    private Game load() {
+        if (coldReadMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(coldReadMicros));
+        }
+        Blackhole.consumeCPU(200);
+        return new Game(HOT_GAME, LocalDate.EPOCH, true);
+    }
+
+    @Benchmark
+    public Game direct() {
+        return load();
+    }
+
+    @Benchmark
+    public Game coalesced() {
+        return singleFlight.execute(HOT_GAME, this::load);
+    }
+
+}
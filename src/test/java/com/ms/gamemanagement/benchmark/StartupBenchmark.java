@@ -0,0 +1,124 @@
+package com.ms.gamemanagement.benchmark;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares startup modes of the application built by {@code mvn -Pfast-startup package}: the plain fat jar,
+ * the AOT-processed thin jar, the same with the AppCDS archive, and the native executable if one was built
+ * with {@code -Pnative}. Each mode is started several times; a start is measured from process launch until
+ * the HTTP port accepts connections, followed by the latency of the first {@code GET /v1/games}.
+ *
+ * <p>This is a plain program rather than a JMH benchmark, because every sample is a fresh JVM:
+ * <pre>
+ * java -cp target/test-classes com.ms.gamemanagement.benchmark.StartupBenchmark [runs]
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final String JAR = "GameManagement-0.0.1-SNAPSHOT";
+    private static final long STARTUP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private record Mode(String name, List<String> command, Path requires) {
+    }
+
+    private record Sample(long startupNanos, long firstRequestNanos) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path thinJar = TARGET.resolve(JAR + ".jar");
+        List<Mode> modes = List.of(
+                new Mode("jar", List.of(java, "-jar", TARGET.resolve(JAR + "-exec.jar").toString()),
+                        TARGET.resolve(JAR + "-exec.jar")),
+                new Mode("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", thinJar.toString()), thinJar),
+                new Mode("aot+cds", List.of(java, "-Dspring.aot.enabled=true",
+                        "-XX:SharedArchiveFile=" + TARGET.resolve("app.jsa"), "-jar", thinJar.toString()),
+                        TARGET.resolve("app.jsa")),
+                new Mode("native", List.of(TARGET.resolve("GameManagement").toString()), TARGET.resolve("GameManagement")));
+
+        System.out.printf("%-8s %12s %12s %18s %18s%n", "mode", "startup p50", "startup max", "first request p50",
+                "first request max");
+        for (Mode mode : modes) {
+            if (!Files.exists(mode.requires())) {
+                System.out.printf("%-8s skipped, %s not found%n", mode.name(), mode.requires());
+                continue;
+            }
+            List<Sample> samples = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                samples.add(measure(mode));
+            }
+            long[] startup = samples.stream().mapToLong(Sample::startupNanos).sorted().toArray();
+            long[] firstRequest = samples.stream().mapToLong(Sample::firstRequestNanos).sorted().toArray();
+            System.out.printf("%-8s %10d ms %10d ms %16.1f ms %16.1f ms%n", mode.name(),
+                    millis(startup[startup.length / 2]), millis(startup[startup.length - 1]),
+                    firstRequest[firstRequest.length / 2] / 1e6, firstRequest[firstRequest.length - 1] / 1e6);
+        }
+    }
+
+    private static Sample measure(Mode mode) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(mode.command());
+        command.addAll(Arrays.asList("--server.port=" + port, "--games.rate-limit.enabled=false"));
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectErrorStream(true)
+                .start();
+        try {
+            awaitPort(port, process, start);
+            long listening = System.nanoTime();
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/games")).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long answered = System.nanoTime();
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(mode.name() + ": first request returned " + response.statusCode());
+            }
+            return new Sample(listening - start, answered - listening);
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitPort(int port, Process process, long start) throws InterruptedException {
+        while (System.nanoTime() - start < STARTUP_TIMEOUT_NANOS) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue());
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 100);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("Application did not open port " + port + " in time");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
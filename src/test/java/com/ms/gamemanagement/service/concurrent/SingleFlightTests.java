@@ -0,0 +1,92 @@
+package com.ms.gamemanagement.service.concurrent;
+
+import com.ms.gamemanagement.concurrent.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTests {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Concurrent identical calls share one load")
+    void concurrentCallsShareOneLoad() throws Exception {
+        // Arrange
+        int numThreads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("Chess", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "result";
+        })));
+        loading.await();
+        for (int i = 1; i < numThreads; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("Chess", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        // Release the leader only once every other caller is parked on its result
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.waiting("Chess") < numThreads - 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(numThreads - 1, singleFlight.waiting("Chess"));
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Completed loads are not cached")
+    void completedLoadsAreNotCached() {
+        // Act
+        String first = singleFlight.execute("Chess", () -> "first");
+        String second = singleFlight.execute("Chess", () -> "second");
+
+        // Assert
+        assertEquals("first", first);
+        assertEquals("second", second);
+    }
+
+    @Test
+    @DisplayName("Failures propagate to the caller")
+    void failuresPropagate() {
+        // Act and Assert
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("Chess", () -> {
+            throw new IllegalStateException("cold tier unavailable");
+        }));
+        assertEquals("recovered", singleFlight.execute("Chess", () -> "recovered"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ms.gamemanagement.service.concurrent;
+
+import com.ms.gamemanagement.concurrent.TimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTests {
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+
+    @Test
+    @DisplayName("Timers fire in deadline order and never early")
+    void timersFireInDeadlineOrder() {
+        // Arrange
+        wheel.schedule(35, "third");
+        wheel.schedule(12, "first");
+        wheel.schedule(20, "second");
+
+        // Act & Assert
+        assertEquals(List.of(), wheel.advance(10));
+        assertEquals(List.of(), wheel.advance(19));
+        assertEquals(List.of("first", "second"), wheel.advance(20));
+        assertEquals(List.of("third"), wheel.advance(40));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Cancelled timers do not fire")
+    void cancelledTimersDoNotFire() {
+        // Arrange
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(50, "cancelled");
+        wheel.schedule(50, "kept");
+
+        // Act
+        assertTrue(wheel.cancel(cancelled));
+
+        // Assert
+        assertFalse(wheel.cancel(cancelled));
+        assertEquals(List.of("kept"), wheel.advance(50));
+    }
+
+    @Test
+    @DisplayName("Timers beyond the first level cascade down and fire on time")
+    void longTimersCascade() {
+        // Arrange: 8 slots of 10 ms per level, so these land two and three levels up
+        wheel.schedule(1_234, "level two");
+        wheel.schedule(7_777, "level three");
+
+        // Act & Assert
+        assertEquals(List.of(), wheel.advance(1_229));
+        assertEquals(List.of("level two"), wheel.advance(1_240));
+        assertEquals(List.of(), wheel.advance(7_770));
+        assertEquals(List.of("level three"), wheel.advance(100_000));
+    }
+
+    @Test
+    @DisplayName("Past deadlines fire on the next tick")
+    void pastDeadlinesFireOnNextTick() {
+        // Arrange
+        wheel.advance(1_000);
+
+        // Act
+        wheel.schedule(5, "late");
+
+        // Assert
+        assertEquals(List.of("late"), wheel.advance(1_010));
+    }
+
+    @Test
+    @DisplayName("Clear drops every timer")
+    void clearDropsEveryTimer() {
+        // Arrange
+        TimingWheel.Timeout<String> timeout = wheel.schedule(20, "near");
+        wheel.schedule(5_000, "far");
+
+        // Act
+        wheel.clear();
+
+        // Assert
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.cancel(timeout));
+        assertEquals(List.of(), wheel.advance(10_000));
+    }
+}
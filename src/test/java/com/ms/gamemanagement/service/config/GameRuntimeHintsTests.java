@@ -0,0 +1,43 @@
+package com.ms.gamemanagement.service.config;
+
+import com.ms.gamemanagement.config.GameRuntimeHints;
+import com.ms.gamemanagement.config.SwaggerConfig;
+import com.ms.gamemanagement.modal.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRuntimeHintsTests {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@Test
+	@DisplayName("Register Jackson binding hints for the game model")
+	void registerGameBindingHints() throws Exception {
+		// Act
+		new GameRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		// Assert
+		assertTrue(RuntimeHintsPredicates.reflection().onType(Game.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Game.class.getMethod("getName")).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Game.class.getMethod("setCreationDate",
+				LocalDate.class)).test(hints));
+	}
+
+	@Test
+	@DisplayName("Register reflection hints for the OpenAPI definition")
+	void registerSwaggerConfigHints() {
+		// Act
+		new GameRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		// Assert
+		assertTrue(RuntimeHintsPredicates.reflection().onType(SwaggerConfig.class)
+				.withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+	}
+}
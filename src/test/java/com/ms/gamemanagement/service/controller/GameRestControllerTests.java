@@ -3,7 +3,15 @@ package com.ms.gamemanagement.service.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ms.gamemanagement.controller.GameRestController;
+import com.ms.gamemanagement.exception.HistoryNotRetainedException;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
 import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameChange;
+import com.ms.gamemanagement.modal.GameVersion;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
 import com.ms.gamemanagement.service.GameService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +29,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -29,6 +38,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +50,9 @@ class GameRestControllerTests {
     @MockBean
     GameService gameService;
 
+    @MockBean
+    CatalogJobService catalogJobService;
+
     @Autowired
     GameRestController gameController;
 
@@ -200,7 +213,7 @@ class GameRestControllerTests {
         Game game1 = new Game("Chess", localDate, true);
         Game game2 = new Game("Checkers", localDate, true);
         List<Game> games = Arrays.asList(game1, game2);
-        when(gameService.getAllGames()).thenReturn(games);
+        when(gameService.getCatalogSnapshot()).thenReturn(new CatalogSnapshot(7, games));
 
         // Act
         ResultActions resultActions = mockMvc.perform(get(BASE_PATH));
@@ -208,6 +221,7 @@ class GameRestControllerTests {
         // Assert
         resultActions
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "7"))
                 .andExpect(jsonPath("$[0].name").value("Chess"))
                 .andExpect(jsonPath("$[0].creationDate[0]").value(2023))
                 .andExpect(jsonPath("$[0].creationDate[1]").value(7))
@@ -219,7 +233,7 @@ class GameRestControllerTests {
                 .andExpect(jsonPath("$[1].creationDate[2]").value(10))
                 .andExpect(jsonPath("$[1].active").value(true));
 
-        verify(gameService, times(1)).getAllGames();
+        verify(gameService, times(1)).getCatalogSnapshot();
     }
 
 
@@ -227,7 +241,7 @@ class GameRestControllerTests {
     @DisplayName("Get All Games - Empty List")
     void getAllGamesEmpty() throws Exception {
         // Arrange
-        when(gameService.getAllGames()).thenReturn(Collections.emptyList());
+        when(gameService.getCatalogSnapshot()).thenReturn(new CatalogSnapshot(0, Collections.emptyList()));
 
         // Act
         ResultActions resultActions = mockMvc.perform(get(BASE_PATH));
@@ -237,7 +251,7 @@ class GameRestControllerTests {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
-        verify(gameService, times(1)).getAllGames();
+        verify(gameService, times(1)).getCatalogSnapshot();
     }
 
     @Test
@@ -272,6 +286,123 @@ class GameRestControllerTests {
         verify(gameService, times(1)).deleteAllGames();
     }
 
+    @Test
+    @DisplayName("Delete All Games - Async")
+    void deleteAllGamesAsync() throws Exception {
+        // Arrange
+        CatalogJob job = new CatalogJob(JobType.DELETE_ALL);
+        when(catalogJobService.submit(JobType.DELETE_ALL)).thenReturn(job);
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(delete(BASE_PATH).param("async", "true"));
+
+        // Assert
+        resultActions
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/v1/jobs/" + job.getId()))
+                .andExpect(jsonPath("$.id").value(job.getId()))
+                .andExpect(jsonPath("$.type").value("DELETE_ALL"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(catalogJobService, times(1)).submit(JobType.DELETE_ALL);
+        verify(gameService, never()).deleteAllGames();
+    }
+
+    @Test
+    @DisplayName("Create Game - Invalid Activation Window")
+    void createGameInvalidWindow() throws Exception {
+        // Arrange
+        when(gameService.createGame(any(Game.class))).thenThrow(new InvalidActivationWindowException("invalid window"));
+        String requestContent = """
+                {"name": "Chess", "activeFrom": "2023-09-01T00:00:00Z", "activeUntil": "2023-08-01T00:00:00Z"}
+                """;
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(post(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent));
+
+        // Assert
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get Game History - Success")
+    void getGameHistorySuccess() throws Exception {
+        // Arrange
+        Game game = new Game("Chess", LocalDate.of(2023, 7, 10), true);
+        when(gameService.getGameHistory("Chess")).thenReturn(List.of(
+                new GameVersion(1, Instant.parse("2023-07-10T10:00:00Z"), GameChange.CREATED, game),
+                new GameVersion(5, Instant.parse("2023-07-11T10:00:00Z"), GameChange.DELETED, null)));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(get(BASE_PATH + "/{name}/history", "Chess"));
+
+        // Assert
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].version").value(1))
+                .andExpect(jsonPath("$[0].change").value("CREATED"))
+                .andExpect(jsonPath("$[0].game.name").value("Chess"))
+                .andExpect(jsonPath("$[1].change").value("DELETED"))
+                .andExpect(jsonPath("$[1].game").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get Game History - Not Found")
+    void getGameHistoryNotFound() throws Exception {
+        // Arrange
+        when(gameService.getGameHistory("Chess")).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get(BASE_PATH + "/{name}/history", "Chess"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Get All Games - As Of")
+    void getAllGamesAsOf() throws Exception {
+        // Arrange
+        Instant asOf = Instant.parse("2023-07-10T12:00:00Z");
+        when(gameService.getAllGames(asOf)).thenReturn(List.of(new Game("Chess", LocalDate.of(2023, 7, 10), true)));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(get(BASE_PATH).param("asOf", "2023-07-10T12:00:00Z"));
+
+        // Assert
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Chess"));
+
+        verify(gameService, never()).getCatalogSnapshot();
+    }
+
+    @Test
+    @DisplayName("Get All Games - As Of Outside Retention")
+    void getAllGamesAsOfNotRetained() throws Exception {
+        // Arrange
+        Instant asOf = Instant.parse("2023-07-10T12:00:00Z");
+        when(gameService.getAllGames(asOf)).thenThrow(new HistoryNotRetainedException("not retained"));
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(get(BASE_PATH).param("asOf", "2023-07-10T12:00:00Z"));
+
+        // Assert
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Create Game - Unexpected Errors Are Not Reported As Bad Requests")
+    void createGameUnexpectedError() {
+        // Arrange
+        when(gameService.createGame(any(Game.class))).thenThrow(new IllegalArgumentException("bug"));
+
+        // Act & Assert
+        assertThrows(Exception.class, () -> mockMvc.perform(post(BASE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Chess\"}")));
+    }
+
 
 }
 
@@ -0,0 +1,131 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.Game;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameActivationsTests {
+
+	private static final Instant START = Instant.parse("2023-07-10T12:00:00Z");
+	private static final Instant FROM = START.plusSeconds(1);
+	private static final Instant UNTIL = START.plusSeconds(2);
+
+	private final MutableClock clock = new MutableClock(START);
+	private final BlockingQueue<GameActivations.Transition> fired = new LinkedBlockingQueue<>();
+	private final GameActivations activations = new GameActivations(clock, fired::add);
+
+	@AfterEach
+	void stop() {
+		activations.clear();
+	}
+
+	@Test
+	@DisplayName("A window that opens in the future stores the game inactive and fires when it opens")
+	void futureWindowFiresWhenItOpens() throws InterruptedException {
+		// Arrange
+		Game game = scheduled(FROM, UNTIL);
+
+		// Act
+		activations.reschedule("Chess", game);
+		clock.set(FROM.plusMillis(100));
+		activations.tick();
+
+		// Assert
+		assertFalse(game.isActive());
+		assertEquals(new GameActivations.Transition("Chess", FROM, UNTIL), fired.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("A window that opens between validation and the write stores the game active and times its end")
+	void windowOpeningBeforeWriteIsNotMissed() throws InterruptedException {
+		// Arrange
+		Game game = scheduled(FROM, UNTIL);
+		activations.validate(game);
+		clock.set(FROM.plusMillis(500));
+
+		// Act
+		activations.reschedule("Chess", game);
+		activations.tick();
+
+		// Assert
+		assertTrue(game.isActive());
+		assertTrue(fired.isEmpty());
+		clock.set(UNTIL.plusMillis(100));
+		activations.tick();
+		assertEquals(new GameActivations.Transition("Chess", FROM, UNTIL), fired.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Updating a game to have no window cancels its pending timer and keeps its flag")
+	void updateCancelsTimer() {
+		// Arrange
+		activations.reschedule("Chess", scheduled(FROM, UNTIL));
+		Game unscheduled = new Game("Chess", LocalDate.now(), true);
+
+		// Act
+		activations.reschedule("Chess", unscheduled);
+		clock.advance(Duration.ofSeconds(10));
+		activations.tick();
+
+		// Assert
+		assertTrue(unscheduled.isActive());
+		assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Deleting a game cancels its pending timer")
+	void deleteCancelsTimer() {
+		// Arrange
+		activations.reschedule("Chess", scheduled(FROM, UNTIL));
+
+		// Act
+		activations.cancel("Chess");
+		clock.advance(Duration.ofSeconds(10));
+		activations.tick();
+
+		// Assert
+		assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	@DisplayName("A window that ends before it starts is rejected")
+	void invalidWindowIsRejected() {
+		assertThrows(InvalidActivationWindowException.class, () -> activations.validate(scheduled(UNTIL, FROM)));
+	}
+
+	@Test
+	@DisplayName("A transition for a window the game no longer has is ignored")
+	void staleTransitionIsIgnored() {
+		// Arrange
+		GameServiceImpl gameService = new GameServiceImpl(0, Duration.ZERO, 0, clock);
+		gameService.createGame(scheduled(FROM, UNTIL));
+		Instant laterFrom = START.plusSeconds(10);
+		Instant laterUntil = START.plusSeconds(20);
+		gameService.updateGame("Chess", scheduled(laterFrom, laterUntil));
+		clock.set(FROM.plusMillis(500));
+
+		// Act
+		gameService.applyTransition(new GameActivations.Transition("Chess", FROM, UNTIL));
+
+		// Assert
+		assertFalse(gameService.getGame("Chess").orElseThrow().isActive());
+		clock.set(laterFrom.plusMillis(500));
+		gameService.applyTransition(new GameActivations.Transition("Chess", laterFrom, laterUntil));
+		assertTrue(gameService.getGame("Chess").orElseThrow().isActive());
+	}
+
+	private static Game scheduled(Instant from, Instant until) {
+		return new Game("Chess", LocalDate.of(2023, 7, 10), false, from, until);
+	}
+}
@@ -0,0 +1,113 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.modal.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCatalogTests {
+
+	private static final LocalDate CREATED = LocalDate.of(2023, 7, 10);
+
+	@Test
+	@DisplayName("Delete-all counts the games visible before it")
+	void clearCountsVisibleGames() {
+		// Arrange
+		GameCatalog catalog = new GameCatalog();
+		create(catalog, "Chess");
+		create(catalog, "Go");
+		create(catalog, "Checkers");
+		catalog.write("Go", current -> null);
+		catalog.write("Chess", current -> current.toBuilder().active(false).build());
+
+		// Act
+		int first = catalog.clear();
+		create(catalog, "Chess");
+		int second = catalog.clear();
+
+		// Assert
+		assertEquals(2, first);
+		assertEquals(1, second);
+		assertEquals(0, catalog.clear());
+		assertTrue(catalog.snapshot().games().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Delete-all counts a write that started before it but is installed after")
+	void clearCountsWriteInstalledAfterIt() throws Exception {
+		// Arrange: the listener holds the write of Go between allocating its version and committing it
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		GameCatalog catalog = new GameCatalog(new GameCatalog.ChangeListener() {
+			@Override
+			public void changed(String name, long version, Game previous, Game next) {
+				if (name.equals("Go")) {
+					writing.countDown();
+					await(release);
+				}
+			}
+		});
+		create(catalog, "Chess");
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> create(catalog, "Go"));
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+		long writeVersion = catalog.latestVersion();
+
+		// Act: wait until the clear has its version, then let the older write finish
+		CompletableFuture<Integer> cleared = CompletableFuture.supplyAsync(catalog::clear);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (catalog.latestVersion() == writeVersion && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		// Assert
+		writer.get(5, TimeUnit.SECONDS);
+		assertEquals(2, cleared.get(5, TimeUnit.SECONDS));
+		assertTrue(catalog.snapshot().games().isEmpty());
+		create(catalog, "Go");
+		assertEquals(1, catalog.clear());
+	}
+
+	@Test
+	@DisplayName("Listener upkeep runs once the write has committed, without the game's lock")
+	void committedRunsOutsideTheLock() {
+		// Arrange: the first upkeep writes the same game again from another thread and waits for it
+		AtomicBoolean first = new AtomicBoolean(true);
+		GameCatalog[] catalog = new GameCatalog[1];
+		catalog[0] = new GameCatalog(new GameCatalog.ChangeListener() {
+			@Override
+			public void committed() {
+				if (first.getAndSet(false)) {
+					CompletableFuture.runAsync(() -> catalog[0].write("Chess", current -> current.toBuilder().active(false).build()))
+							.orTimeout(5, TimeUnit.SECONDS)
+							.join();
+				}
+			}
+		});
+
+		// Act
+		create(catalog[0], "Chess");
+
+		// Assert
+		assertFalse(catalog[0].snapshot().games().get(0).isActive());
+	}
+
+	private static void create(GameCatalog catalog, String name) {
+		catalog.write(name, current -> current != null ? current : new Game(name, CREATED, true));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
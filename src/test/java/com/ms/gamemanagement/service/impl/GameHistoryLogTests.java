@@ -0,0 +1,162 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHistoryLogTests {
+
+	private static final long START = Instant.parse("2023-07-10T12:00:00Z").toEpochMilli();
+	private static final GameHistory.Clears NO_CLEARS = clears();
+
+	@Test
+	@DisplayName("Fields before their reference point are stored as negative deltas")
+	void negativeDeltas() {
+		// Arrange
+		GameHistoryLog log = new GameHistoryLog("Chess", 1, START);
+		Game first = new Game("Chess", LocalDate.of(1900, 1, 1), true,
+				Instant.ofEpochMilli(START).minus(Duration.ofDays(400)), Instant.ofEpochMilli(START).plusSeconds(5));
+		Game second = new Game("Chess", LocalDate.of(1899, 12, 31), false,
+				Instant.ofEpochMilli(START).minusMillis(1), null);
+
+		// Act
+		log.append(1, START, null, first);
+		log.append(2, START + 1_000, first, second);
+
+		// Assert
+		assertEquals(first, log.stateAt(1, NO_CLEARS));
+		assertEquals(second, log.stateAt(2, NO_CLEARS));
+		assertEquals(List.of(GameChange.CREATED, GameChange.UPDATED), changes(log));
+	}
+
+	@Test
+	@DisplayName("A name that differs from the key is stored once and kept until it changes again")
+	void nameDeltas() {
+		// Arrange
+		GameHistoryLog log = new GameHistoryLog("Chess", 1, START);
+		Game renamed = new Game("chess", LocalDate.of(2023, 7, 10), true);
+		Game toggled = new Game("chess", LocalDate.of(2023, 7, 10), false);
+		Game restored = new Game("Chess", LocalDate.of(2023, 7, 10), false);
+
+		// Act
+		log.append(1, START, null, renamed);
+		log.append(2, START + 1, renamed, toggled);
+		log.append(3, START + 2, toggled, restored);
+
+		// Assert
+		assertEquals(renamed, log.stateAt(1, NO_CLEARS));
+		assertEquals(toggled, log.stateAt(2, NO_CLEARS));
+		assertEquals(restored, log.stateAt(3, NO_CLEARS));
+	}
+
+	@Test
+	@DisplayName("Trimming by count folds dropped records into the base state")
+	void trimFoldsIntoBase() {
+		// Arrange
+		GameHistoryLog log = new GameHistoryLog("Chess", 1, START);
+		List<Game> states = new ArrayList<>();
+		Game previous = null;
+		for (int i = 1; i <= 10; i++) {
+			Game game = new Game("Chess", LocalDate.of(2023, 7, i), i % 2 == 0);
+			log.append(i, START + i * 1_000L, previous, game);
+			states.add(game);
+			previous = game;
+		}
+
+		// Act
+		log.trim(3, 0, Long.MIN_VALUE);
+
+		// Assert
+		assertEquals(3, log.size());
+		assertFalse(log.reaches(6));
+		assertTrue(log.reaches(7));
+		assertEquals(states.get(6), log.stateAt(7, NO_CLEARS));
+		assertEquals(states.get(8), log.stateAt(9, NO_CLEARS));
+		assertEquals(states.get(9), log.stateAt(10, NO_CLEARS));
+		assertEquals(List.of(8L, 9L, 10L), versions(log));
+		assertEquals(7, log.versionAt(START + 7_500, Long.MAX_VALUE));
+		assertEquals(Long.MIN_VALUE, log.versionAt(START + 6_500, Long.MAX_VALUE));
+	}
+
+	@Test
+	@DisplayName("Trimming by age keeps the state that was in place at the horizon")
+	void trimByAge() {
+		// Arrange
+		GameHistoryLog log = new GameHistoryLog("Chess", 1, START);
+		Game first = new Game("Chess", LocalDate.of(2023, 7, 10), true);
+		Game second = new Game("Chess", LocalDate.of(2023, 7, 10), false);
+		Game third = new Game("Chess", LocalDate.of(2023, 7, 11), false);
+		log.append(1, START, null, first);
+		log.append(2, START + 1_000, first, second);
+		log.append(3, START + 5_000, second, third);
+
+		// Act
+		log.trim(100, 0, START + 2_000);
+
+		// Assert: the first record was superseded by the horizon, the second was still current then
+		assertEquals(List.of(2L, 3L), versions(log));
+		assertTrue(log.reaches(1));
+		assertFalse(log.reaches(0));
+		assertEquals(first, log.stateAt(1, NO_CLEARS));
+		assertEquals(second, log.stateAt(2, NO_CLEARS));
+		assertEquals(third, log.stateAt(3, NO_CLEARS));
+		assertEquals(2, log.versionAt(START + 2_000, Long.MAX_VALUE));
+		assertEquals(1, log.versionAt(START + 2_000, 1));
+	}
+
+	@Test
+	@DisplayName("A delete-all hides the game until its next record")
+	void clearHidesGame() {
+		// Arrange
+		GameHistoryLog log = new GameHistoryLog("Chess", 1, START);
+		Game first = new Game("Chess", LocalDate.of(2023, 7, 10), true);
+		Game second = new Game("Chess", LocalDate.of(2023, 7, 10), false);
+		log.append(1, START, null, first);
+		log.append(5, START + 2_000, null, second);
+		GameHistory.Clears clears = clears(3);
+
+		// Act & Assert
+		assertEquals(first, log.stateAt(2, clears));
+		assertNull(log.stateAt(3, clears));
+		assertNull(log.stateAt(4, clears));
+		assertEquals(second, log.stateAt(5, clears));
+		assertEquals(List.of(GameChange.CREATED, GameChange.DELETED, GameChange.CREATED), changes(log, clears));
+	}
+
+	private static List<GameChange> changes(GameHistoryLog log) {
+		return changes(log, NO_CLEARS);
+	}
+
+	private static List<GameChange> changes(GameHistoryLog log, GameHistory.Clears clears) {
+		List<GameChange> changes = new ArrayList<>();
+		log.forEach(clears, (version, millis, change, game) -> changes.add(change));
+		return changes;
+	}
+
+	private static List<Long> versions(GameHistoryLog log) {
+		List<Long> versions = new ArrayList<>();
+		log.forEach(NO_CLEARS, (version, millis, change, game) -> versions.add(version));
+		return versions;
+	}
+
+	/**
+	 * Builds the delete-alls of a history with no logs, made at the given versions.
+	 */
+	private static GameHistory.Clears clears(long... versions) {
+		MutableClock clock = new MutableClock(Instant.ofEpochMilli(START));
+		GameHistory history = new GameHistory(1, Duration.ofDays(1), Long.MAX_VALUE, clock);
+		for (long version : versions) {
+			history.cleared(version);
+		}
+		return history.clears();
+	}
+}
@@ -0,0 +1,208 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.exception.HistoryNotRetainedException;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.GameChange;
+import com.ms.gamemanagement.modal.GameVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHistoryTests {
+
+	private static final Instant START = Instant.parse("2023-07-10T12:00:00Z");
+
+	private final MutableClock clock = new MutableClock(START);
+	private final GameServiceImpl gameService = new GameServiceImpl(3, Duration.ofHours(1), Long.MAX_VALUE, clock);
+
+	@Test
+	@DisplayName("History lists every change of a game, oldest first")
+	void historyListsChanges() {
+		// Arrange
+		gameService.createGame(new Game("History Chess", LocalDate.of(2023, 7, 10), true));
+		gameService.updateGame("History Chess", new Game("History Chess", LocalDate.of(2023, 7, 11), false));
+		gameService.deleteGame("History Chess");
+
+		// Act
+		List<GameVersion> history = gameService.getGameHistory("History Chess");
+
+		// Assert
+		assertEquals(List.of(GameChange.CREATED, GameChange.UPDATED, GameChange.DELETED),
+				history.stream().map(GameVersion::change).toList());
+		assertEquals(new Game("History Chess", LocalDate.of(2023, 7, 10), true), history.get(0).game());
+		assertEquals(new Game("History Chess", LocalDate.of(2023, 7, 11), false), history.get(1).game());
+		assertNull(history.get(2).game());
+		assertTrue(history.get(0).version() < history.get(1).version());
+	}
+
+	@Test
+	@DisplayName("Games are returned as they were at a point in time")
+	void gamesAsOfPointInTime() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+		gameService.createGame(new Game("Darts", LocalDate.of(2023, 7, 10), true));
+		clock.advance(Duration.ofSeconds(1));
+		Instant before = clock.instant();
+		clock.advance(Duration.ofSeconds(1));
+		gameService.updateGame("Chess", new Game("Chess", LocalDate.of(2023, 7, 10), false));
+		gameService.deleteGame("Darts");
+		gameService.createGame(new Game("Go", LocalDate.of(2023, 7, 10), true));
+
+		// Act
+		List<Game> games = gameService.getAllGames(before);
+
+		// Assert
+		assertEquals(2, games.size());
+		assertTrue(games.contains(new Game("Chess", LocalDate.of(2023, 7, 10), true)));
+		assertTrue(games.contains(new Game("Darts", LocalDate.of(2023, 7, 10), true)));
+		assertEquals(2, gameService.getAllGames(clock.instant()).size());
+	}
+
+	@Test
+	@DisplayName("Delete all is part of every game's history")
+	void deleteAllInHistory() {
+		// Arrange
+		gameService.createGame(new Game("Cleared Chess", LocalDate.of(2023, 7, 10), true));
+		clock.advance(Duration.ofSeconds(1));
+		Instant before = clock.instant();
+		clock.advance(Duration.ofSeconds(1));
+		gameService.deleteAllGames();
+
+		// Act & Assert
+		assertEquals(List.of(GameChange.CREATED, GameChange.DELETED),
+				gameService.getGameHistory("Cleared Chess").stream().map(GameVersion::change).toList());
+		assertEquals(List.of(new Game("Cleared Chess", LocalDate.of(2023, 7, 10), true)), gameService.getAllGames(before));
+		assertTrue(gameService.getAllGames(clock.instant()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Only the configured number of versions is kept")
+	void retentionLimitsVersions() {
+		// Arrange
+		gameService.createGame(new Game("Retained Chess", LocalDate.of(2023, 7, 10), true));
+		for (int i = 0; i < 10; i++) {
+			gameService.updateGame("Retained Chess", new Game("Retained Chess", LocalDate.of(2023, 7, 10), i % 2 == 0));
+		}
+
+		// Act
+		List<GameVersion> history = gameService.getGameHistory("Retained Chess");
+
+		// Assert
+		assertEquals(3, history.size());
+		assertEquals(gameService.getGame("Retained Chess").orElseThrow(), history.get(2).game());
+	}
+
+	@Test
+	@DisplayName("Versions superseded before the retention period are dropped")
+	void retentionLimitsAge() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+		clock.advance(Duration.ofMinutes(10));
+		gameService.updateGame("Chess", new Game("Chess", LocalDate.of(2023, 7, 10), false));
+
+		// Act
+		clock.advance(Duration.ofHours(2));
+		List<GameVersion> history = gameService.getGameHistory("Chess");
+
+		// Assert
+		assertEquals(List.of(GameChange.UPDATED), history.stream().map(GameVersion::change).toList());
+		assertEquals(List.of(new Game("Chess", LocalDate.of(2023, 7, 10), false)),
+				gameService.getAllGames(clock.instant().minus(Duration.ofMinutes(30))));
+	}
+
+	@Test
+	@DisplayName("Points in time before the retention period are rejected")
+	void asOfBeforeRetentionRejected() {
+		assertThrows(HistoryNotRetainedException.class,
+				() -> gameService.getAllGames(clock.instant().minus(Duration.ofHours(2))));
+		assertTrue(gameService.getGameHistory("Unknown").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Points in time that some game's history no longer reaches are rejected rather than answered in part")
+	void asOfBeyondTruncatedHistoryRejected() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+		gameService.createGame(new Game("Darts", LocalDate.of(2023, 7, 10), true));
+		clock.advance(Duration.ofSeconds(1));
+		Instant before = clock.instant();
+		clock.advance(Duration.ofSeconds(1));
+		for (int i = 0; i < 10; i++) {
+			gameService.updateGame("Chess", new Game("Chess", LocalDate.of(2023, 7, 10), i % 2 == 0));
+		}
+
+		// Act & Assert
+		assertThrows(HistoryNotRetainedException.class, () -> gameService.getAllGames(before));
+		assertEquals(2, gameService.getAllGames(clock.instant()).size());
+	}
+
+	@Test
+	@DisplayName("The log of a deleted game goes once the deletion is older than the retention period")
+	void deletedGameLogsExpire() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+		gameService.createGame(new Game("Darts", LocalDate.of(2023, 7, 10), true));
+		gameService.deleteGame("Chess");
+		gameService.markAllGamesDeleted();
+		long bytes = gameService.historyBytes();
+
+		// Act
+		clock.advance(Duration.ofHours(2));
+		gameService.createGame(new Game("Go", LocalDate.of(2023, 7, 10), true));
+
+		// Assert
+		assertTrue(gameService.getGameHistory("Chess").isEmpty());
+		assertTrue(gameService.getGameHistory("Darts").isEmpty());
+		assertEquals(1, gameService.getGameHistory("Go").size());
+		assertTrue(gameService.historyBytes() < bytes);
+	}
+
+	@Test
+	@DisplayName("Expired logs are swept after the write has committed, not while it holds the game")
+	void expiredLogsSweptAfterCommit() {
+		// Arrange
+		GameHistory history = new GameHistory(3, Duration.ofHours(1), Long.MAX_VALUE, clock);
+		Game chess = new Game("Chess", LocalDate.of(2023, 7, 10), true);
+		history.changed("Chess", 1, null, chess);
+		history.changed("Chess", 2, chess, null);
+		clock.advance(Duration.ofHours(2));
+		history.changed("Go", 3, null, new Game("Go", LocalDate.of(2023, 7, 10), true));
+		long bytes = history.retainedBytes();
+
+		// Act
+		history.committed();
+
+		// Assert
+		assertTrue(history.retainedBytes() < bytes);
+	}
+
+	@Test
+	@DisplayName("History is held to its size by keeping versions for less than the retention period")
+	void historyIsHeldToMaxBytes() {
+		// Arrange
+		long maxBytes = 20_000;
+		GameServiceImpl gameService = new GameServiceImpl(100, Duration.ofDays(7), maxBytes, clock);
+		for (int i = 0; i < 50; i++) {
+			gameService.createGame(new Game("Game " + i, LocalDate.of(2023, 7, 10), true));
+		}
+
+		// Act
+		for (int round = 0; round < 60; round++) {
+			for (int i = 0; i < 50; i++) {
+				clock.advance(Duration.ofSeconds(1));
+				gameService.updateGame("Game " + i, new Game("Game " + i, LocalDate.of(2023, 7, 10), round % 2 == 0));
+			}
+		}
+
+		// Assert
+		assertTrue(gameService.historyBytes() <= maxBytes + maxBytes / 8, "Retained " + gameService.historyBytes());
+		assertThrows(HistoryNotRetainedException.class, () -> gameService.getAllGames(START.plusSeconds(1)));
+		assertEquals(50, gameService.getAllGames(clock.instant()).size());
+	}
+}
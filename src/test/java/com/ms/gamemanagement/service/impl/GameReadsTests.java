@@ -0,0 +1,109 @@
+package com.ms.gamemanagement.service.impl;
+
+import com.ms.gamemanagement.modal.CatalogSnapshot;
+import com.ms.gamemanagement.modal.Game;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReadsTests {
+
+	private static final String WRITER = "held-writer";
+
+	private final CountDownLatch writing = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	// Holds the writer's change uncommitted: the history reads the clock while the change is being installed
+	private final MutableClock clock = new MutableClock(Instant.parse("2023-07-10T12:00:00Z")) {
+		@Override
+		public long millis() {
+			if (Thread.currentThread().getName().equals(WRITER)) {
+				writing.countDown();
+				await(release);
+			}
+			return super.millis();
+		}
+	};
+
+	private final GameServiceImpl gameService = new GameServiceImpl(3, Duration.ofHours(1), Long.MAX_VALUE, clock);
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("Concurrent identical reads of a game share one lookup")
+	void concurrentGetsShareOneLookup() throws Exception {
+		// Arrange: a write in progress keeps the first reader waiting for it to commit
+		int numReaders = 8;
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+		Thread writer = new Thread(() -> gameService.createGame(new Game("Go", LocalDate.of(2023, 7, 10), true)), WRITER);
+		writer.start();
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+		// Act
+		List<Future<Optional<Game>>> results = new ArrayList<>();
+		for (int i = 0; i < numReaders; i++) {
+			results.add(executor.submit(() -> gameService.getGame("Chess")));
+		}
+		// Release the write only once every other reader is parked on the first one's lookup
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (gameService.waitingReads("Chess") < numReaders - 1 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertEquals(numReaders - 1, gameService.waitingReads("Chess"));
+		release.countDown();
+		writer.join(TimeUnit.SECONDS.toMillis(5));
+
+		// Assert: one lookup means one copy, handed to every reader
+		Game first = results.get(0).get(5, TimeUnit.SECONDS).orElseThrow();
+		for (Future<Optional<Game>> result : results) {
+			assertSame(first, result.get(5, TimeUnit.SECONDS).orElseThrow());
+		}
+		assertNotSame(first, gameService.getGame("Chess").orElseThrow());
+	}
+
+	@Test
+	@DisplayName("Snapshots of an unchanged catalog are shared and cannot be modified")
+	void snapshotsAreShared() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.of(2023, 7, 10), true));
+
+		// Act
+		CatalogSnapshot first = gameService.getCatalogSnapshot();
+		CatalogSnapshot second = gameService.getCatalogSnapshot();
+		gameService.createGame(new Game("Go", LocalDate.of(2023, 7, 10), true));
+		CatalogSnapshot third = gameService.getCatalogSnapshot();
+
+		// Assert
+		assertSame(first, second);
+		assertThrows(UnsupportedOperationException.class, () -> first.games().clear());
+		assertEquals(1, first.games().size());
+		assertEquals(2, third.games().size());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.ms.gamemanagement.service.jfr;
+
+import com.ms.gamemanagement.jfr.FlightRecordingEndpoint;
+import com.ms.gamemanagement.jfr.GameOperationEvent;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// No always-on recording, so it does not keep running for the rest of the test JVM
+@SpringBootTest(properties = "games.jfr.enabled=false")
+@AutoConfigureMockMvc
+class FlightRecordingEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FlightRecordingEndpoint endpoint;
+
+	@Test
+	@DisplayName("The jfr endpoint is not exposed over HTTP by default")
+	void notExposedOverHttp() throws Exception {
+		// Act and Assert
+		mockMvc.perform(get("/actuator/jfr")).andExpect(status().isNotFound());
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("Dump running recordings to a file that is deleted once streamed")
+	void dumpRecording() throws Exception {
+		// Arrange
+		WebEndpointResponse<Resource> response;
+		try (Recording recording = new Recording()) {
+			recording.enable(GameOperationEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+			mockMvc.perform(get("/v1/games"));
+
+			// Act
+			response = endpoint.dump();
+		}
+
+		// Assert
+		assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+		Path file = response.getBody().getFile().toPath();
+		try (InputStream dump = response.getBody().getInputStream()) {
+			assertEquals("FLR", new String(dump.readNBytes(3), StandardCharsets.US_ASCII));
+		}
+		assertFalse(Files.exists(file));
+	}
+}
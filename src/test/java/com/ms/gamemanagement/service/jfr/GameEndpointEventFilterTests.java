@@ -0,0 +1,107 @@
+package com.ms.gamemanagement.service.jfr;
+
+import com.ms.gamemanagement.jfr.GameEndpointEvent;
+import com.ms.gamemanagement.jfr.GameEndpointEventFilter;
+import com.ms.gamemanagement.service.GameCatalogMaintenance;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEndpointEventFilterTests {
+
+	private static final String BODY = "{\"name\":\"Chess\",\"creationDate\":\"2023-07-10\",\"active\":true}";
+
+	private final GameEndpointEventFilter filter =
+			new GameEndpointEventFilter(new StaticListableBeanFactory().getBeanProvider(GameCatalogMaintenance.class));
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("Record requests to every /v1 API, with body sizes of chunked requests")
+	void recordApiRequests() throws Exception {
+		// Arrange: a chunked request declares no length, so only reading the body tells its size
+		MockHttpServletRequest tenantRequest = new MockHttpServletRequest("POST", "/v1/tenants/acme/games") {
+			@Override
+			public long getContentLengthLong() {
+				return -1;
+			}
+		};
+		tenantRequest.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+		FilterChain echo = (request, response) -> {
+			byte[] body = request.getInputStream().readAllBytes();
+			((HttpServletResponse) response).setStatus(201);
+			response.getOutputStream().write(body);
+		};
+
+		// Act
+		List<RecordedEvent> events = record(() -> {
+			filter.doFilter(tenantRequest, new MockHttpServletResponse(), echo);
+			filter.doFilter(new MockHttpServletRequest("GET", "/v1/jobs"), new MockHttpServletResponse(), (request, response) -> { });
+			filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), (request, response) -> { });
+		});
+
+		// Assert
+		assertEquals(2, events.size());
+		RecordedEvent tenantEvent = events.get(0);
+		assertEquals("POST /v1/tenants/acme/games", tenantEvent.getString("operation"));
+		assertEquals("201", tenantEvent.getString("outcome"));
+		assertEquals(BODY.length(), tenantEvent.getLong("requestBytes"));
+		assertEquals(BODY.length(), tenantEvent.getLong("responseBytes"));
+		assertEquals(-1, tenantEvent.getInt("catalogSize"));
+		assertEquals("GET /v1/jobs", events.get(1).getString("operation"));
+		assertEquals(0, events.get(1).getLong("requestBytes"));
+	}
+
+	@Test
+	@DisplayName("Record the declared size of a body that is rejected unread")
+	void recordDeclaredSizeOfUnreadBody() throws Exception {
+		// Arrange
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/games");
+		request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+
+		// Act
+		List<RecordedEvent> events = record(() -> filter.doFilter(request, new MockHttpServletResponse(),
+				(rejected, response) -> ((HttpServletResponse) response).setStatus(429)));
+
+		// Assert
+		assertEquals(1, events.size());
+		assertEquals("429", events.get(0).getString("outcome"));
+		assertEquals(BODY.length(), events.get(0).getLong("requestBytes"));
+		assertEquals(0, events.get(0).getLong("responseBytes"));
+	}
+
+	private List<RecordedEvent> record(Requests requests) throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable(GameEndpointEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+			requests.run();
+			recording.stop();
+			Path file = directory.resolve("endpoint.jfr");
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().equals("com.ms.gamemanagement.GameEndpoint"))
+					.toList();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Requests {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,65 @@
+package com.ms.gamemanagement.service.jfr;
+
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.jfr.GameOperationEvent;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.service.impl.GameServiceImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameOperationEventTests {
+
+	private final GameServiceImpl gameService = new GameServiceImpl();
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("Record an event per game service operation")
+	void recordOperations() throws Exception {
+		// Arrange
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable(GameOperationEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			// Act
+			gameService.createGame(new Game("Chess", LocalDate.now(), true));
+			gameService.getGame("Chess");
+			assertThrows(GameNotFoundException.class, () -> gameService.deleteGame("Monopoly"));
+			recording.stop();
+			Path file = directory.resolve("games.jfr");
+			recording.dump(file);
+			// Recordings started elsewhere in the JVM add their events to the dump
+			events = RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().equals("com.ms.gamemanagement.GameOperation"))
+					.toList();
+		}
+
+		// Assert
+		assertEquals(3, events.size());
+		assertEvent(events.get(0), "createGame", "Chess", "OK", 1);
+		assertEvent(events.get(1), "getGame", "Chess", "OK", 1);
+		assertEvent(events.get(2), "deleteGame", "Monopoly", "NOT_FOUND", 0);
+		assertEquals(1, events.get(2).getInt("catalogSize"));
+	}
+
+	private static void assertEvent(RecordedEvent event, String operation, String name, String outcome, int games) {
+		assertEquals("com.ms.gamemanagement.GameOperation", event.getEventType().getName());
+		assertEquals(operation, event.getString("operation"));
+		assertEquals(name.hashCode(), event.getInt("nameHash"));
+		assertEquals(outcome, event.getString("outcome"));
+		assertEquals(games, event.getInt("games"));
+	}
+}
@@ -0,0 +1,220 @@
+package com.ms.gamemanagement.service.load;
+
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.service.GameService;
+import com.ms.gamemanagement.service.load.LoadScenario.Operation;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Closed-loop load suite for {@code /v1/games}, run with {@code mvn verify -Pload}. For each scenario it
+ * seeds the catalog, lets {@code load.concurrency} clients hammer a running server over HTTP with game names
+ * drawn from a Zipfian distribution, and fails if the p99 latency or the throughput misses its SLO.
+ * Percentile distributions are written to {@code target/load}.
+ *
+ * <p>Being closed-loop, a stalled server also slows down the clients, so latencies under overload are
+ * understated; the throughput SLO is what catches that case.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {"games.rate-limit.enabled=false", "logging.level.com.ms.gamemanagement=warn"})
+class GamesLoadIT {
+
+	private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(30);
+	private static final Map<Operation, Set<Integer>> EXPECTED_STATUSES = Map.of(
+			Operation.GET, Set.of(200, 404),
+			Operation.LIST, Set.of(200),
+			Operation.UPDATE, Set.of(200, 404),
+			Operation.CREATE, Set.of(201, 409),
+			Operation.DELETE, Set.of(204, 404));
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private GameService gameService;
+
+	@Value("${load.catalog-size:10000}")
+	private int catalogSize;
+
+	@Value("${load.concurrency:32}")
+	private int concurrency;
+
+	@Value("${load.zipf-exponent:0.99}")
+	private double zipfExponent;
+
+	@Value("${load.warmup-seconds:5}")
+	private int warmupSeconds;
+
+	@Value("${load.duration-seconds:20}")
+	private int durationSeconds;
+
+	@Value("${load.slo.p99-ms:50}")
+	private double maxP99Millis;
+
+	@Value("${load.slo.min-throughput:2000}")
+	private double minThroughput;
+
+	@Value("${load.report-directory:target/load}")
+	private Path reportDirectory;
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+	@BeforeEach
+	void seedCatalog() {
+		gameService.deleteAllGames();
+		List<Game> games = new ArrayList<>(catalogSize);
+		for (int i = 0; i < catalogSize; i++) {
+			games.add(new Game(gameName(i), LocalDate.of(2024, 1, 1), true));
+		}
+		gameService.createGames(games);
+	}
+
+	@ParameterizedTest
+	@EnumSource(LoadScenario.class)
+	@DisplayName("Meet the latency and throughput SLOs under load")
+	void meetSlos(LoadScenario scenario) throws Exception {
+		// Arrange
+		ZipfianGenerator keys = new ZipfianGenerator(catalogSize, zipfExponent);
+		drive(scenario, keys, TimeUnit.SECONDS.toNanos(warmupSeconds));
+
+		// Act
+		long start = System.nanoTime();
+		LoadResult result = drive(scenario, keys, TimeUnit.SECONDS.toNanos(durationSeconds));
+		double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+		// Assert
+		Histogram total = result.total();
+		double throughput = total.getTotalCount() / elapsedSeconds;
+		double p99Millis = total.getValueAtPercentile(99) / 1e6;
+		report(scenario, result, throughput);
+		assertEquals(0, result.unexpected(), "Unexpected responses: " + result.unexpected());
+		assertTrue(p99Millis <= maxP99Millis,
+				String.format("%s p99 %.2f ms exceeds the %.2f ms SLO", scenario, p99Millis, maxP99Millis));
+		assertTrue(throughput >= minThroughput,
+				String.format("%s throughput %.0f req/s is below the %.0f req/s SLO", scenario, throughput, minThroughput));
+	}
+
+	private record LoadResult(Map<Operation, Histogram> byOperation, long unexpected) {
+
+		Histogram total() {
+			Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+			byOperation.values().forEach(total::add);
+			return total;
+		}
+	}
+
+	private LoadResult drive(LoadScenario scenario, ZipfianGenerator keys, long durationNanos) throws Exception {
+		long deadline = System.nanoTime() + durationNanos;
+		ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+		try {
+			List<Future<LoadResult>> futures = new ArrayList<>();
+			for (int i = 0; i < concurrency; i++) {
+				futures.add(clients.submit(() -> runClient(scenario, keys, deadline)));
+			}
+			Map<Operation, Histogram> merged = histograms();
+			long unexpected = 0;
+			for (Future<LoadResult> future : futures) {
+				LoadResult result = future.get();
+				result.byOperation().forEach((operation, histogram) -> merged.get(operation).add(histogram));
+				unexpected += result.unexpected();
+			}
+			return new LoadResult(merged, unexpected);
+		} finally {
+			clients.shutdownNow();
+		}
+	}
+
+	private LoadResult runClient(LoadScenario scenario, ZipfianGenerator keys, long deadline) throws Exception {
+		Map<Operation, Histogram> histograms = histograms();
+		long unexpected = 0;
+		while (System.nanoTime() < deadline) {
+			Operation operation = scenario.nextOperation();
+			HttpRequest request = request(operation, gameName(keys.next()));
+			long start = System.nanoTime();
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			histograms.get(operation).recordValue(Math.min(System.nanoTime() - start, MAX_LATENCY_NANOS));
+			if (!EXPECTED_STATUSES.get(operation).contains(response.statusCode())) {
+				unexpected++;
+			}
+		}
+		return new LoadResult(histograms, unexpected);
+	}
+
+	private HttpRequest request(Operation operation, String name) {
+		URI games = URI.create("http://localhost:" + port + "/v1/games");
+		URI game = URI.create(games + "/" + name.replace(" ", "%20"));
+		String body = "{\"name\":\"" + name + "\",\"creationDate\":\"2024-01-01\",\"active\":"
+				+ ThreadLocalRandom.current().nextBoolean() + "}";
+		HttpRequest.Builder builder = switch (operation) {
+			case GET -> HttpRequest.newBuilder(game).GET();
+			case LIST -> HttpRequest.newBuilder(games).GET();
+			case UPDATE -> HttpRequest.newBuilder(game).PUT(HttpRequest.BodyPublishers.ofString(body));
+			case CREATE -> HttpRequest.newBuilder(games).POST(HttpRequest.BodyPublishers.ofString(body));
+			case DELETE -> HttpRequest.newBuilder(game).DELETE();
+		};
+		return builder.header("Content-Type", "application/json").build();
+	}
+
+	private void report(LoadScenario scenario, LoadResult result, double throughput) throws IOException {
+		Files.createDirectories(reportDirectory);
+		System.out.printf("%s: %.0f req/s, %d unexpected responses%n", scenario, throughput, result.unexpected());
+		System.out.printf("  %-7s %10s %10s %10s %10s %10s%n", "", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+		result.byOperation().forEach((operation, histogram) -> printRow(operation.name(), histogram));
+		Histogram total = result.total();
+		printRow("ALL", total);
+		try (PrintStream out = new PrintStream(Files.newOutputStream(reportDirectory.resolve(scenario + ".hgrm")))) {
+			total.outputPercentileDistribution(out, 1e6);
+		}
+	}
+
+	private static void printRow(String name, Histogram histogram) {
+		if (histogram.getTotalCount() == 0) {
+			return;
+		}
+		System.out.printf("  %-7s %10d %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(),
+				histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(99) / 1e6,
+				histogram.getValueAtPercentile(99.9) / 1e6, histogram.getMaxValue() / 1e6);
+	}
+
+	private static Map<Operation, Histogram> histograms() {
+		Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			histograms.put(operation, new Histogram(MAX_LATENCY_NANOS, 3));
+		}
+		return histograms;
+	}
+
+	private static String gameName(int rank) {
+		return "Game " + rank;
+	}
+}
@@ -0,0 +1,40 @@
+package com.ms.gamemanagement.service.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request mixes for the load suite, as relative weights of each operation on {@code /v1/games}.
+ */
+enum LoadScenario {
+
+    READ_HEAVY(90, 1, 7, 1, 1),
+    BALANCED(60, 1, 25, 7, 7),
+    WRITE_HEAVY(30, 0, 50, 10, 10);
+
+    enum Operation {
+        GET, LIST, UPDATE, CREATE, DELETE
+    }
+
+    private final int[] cumulativeWeights;
+
+    LoadScenario(int get, int list, int update, int create, int delete) {
+        int[] weights = {get, list, update, create, delete};
+        cumulativeWeights = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    Operation nextOperation() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return Operation.values()[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.ms.gamemanagement.service.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws ranks in {@code [0, n)} where rank {@code k} has probability proportional to {@code 1 / (k + 1)^s}.
+ * An exponent of 0 is uniform; around 1 a few hot games take most of the traffic, as real catalogs do.
+ */
+class ZipfianGenerator {
+
+    private final double[] cumulative;
+
+    ZipfianGenerator(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.ms.gamemanagement.service.ratelimit;
+
+import com.ms.gamemanagement.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RateLimitFilterTests {
+
+    private static final String PROXY = "10.0.0.1";
+
+    private final StubController controller = new StubController();
+
+    @RestController
+    static class StubController {
+
+        private volatile CountDownLatch entered = new CountDownLatch(0);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        @GetMapping("/v1/games")
+        String list() {
+            return "[]";
+        }
+
+        @DeleteMapping("/v1/games")
+        void deleteAll() {
+        }
+
+        @GetMapping("/v1/games/{name}")
+        String get(@PathVariable String name) throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return name;
+        }
+
+        @GetMapping("/v1/tenants/{tenant}/games")
+        String tenantList(@PathVariable String tenant) {
+            return "[]";
+        }
+
+        @GetMapping("/v1/tenants/{tenant}/games/{name}")
+        String tenantGet(@PathVariable String tenant, @PathVariable String name) {
+            return name;
+        }
+
+        @PostMapping("/v1/jobs")
+        String startJob() {
+            return "{}";
+        }
+
+        @GetMapping("/actuator/health")
+        String health() {
+            return "UP";
+        }
+    }
+
+    private MockMvc mockMvc(int expensiveBurst, int pointBurst, int maxConcurrency) {
+        RateLimitFilter filter = new RateLimitFilter(true, "X-Client-Id", List.of(PROXY),
+                0.001, expensiveBurst, 0.001, pointBurst, 100, 1, maxConcurrency, 60_000,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        return MockMvcBuilders.standaloneSetup(controller).addFilters(filter).build();
+    }
+
+    @Test
+    @DisplayName("Catalog-wide requests use the expensive budget and get 429 with Retry-After")
+    void expensiveRequestsAreThrottled() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(1, 10, 10);
+
+        // Act and Assert
+        mockMvc.perform(get("/v1/games")).andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/games"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(get("/v1/games/Chess")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Point requests use their own budget")
+    void pointRequestsAreThrottledSeparately() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(10, 1, 10);
+
+        // Act and Assert
+        mockMvc.perform(get("/v1/games/Chess")).andExpect(status().isOk());
+        String retryAfter = mockMvc.perform(get("/v1/games/Go"))
+                .andExpect(status().isTooManyRequests())
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertTrue(Long.parseLong(retryAfter) >= 1);
+        mockMvc.perform(get("/v1/games")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Tenant collections and jobs share the expensive budget with the global collection")
+    void tenantAndJobRequestsAreThrottled() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(2, 10, 10);
+
+        // Act and Assert
+        mockMvc.perform(get("/v1/tenants/acme/games")).andExpect(status().isOk());
+        mockMvc.perform(post("/v1/jobs")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/tenants/globex/games"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(get("/v1/tenants/acme/games/Chess")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Requests outside the /v1 APIs are not limited")
+    void otherPathsAreNotFiltered() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(1, 1, 1);
+
+        // Act and Assert
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("The client header is only honoured from trusted proxies")
+    void clientHeaderRequiresTrustedProxy() throws Exception {
+        // Arrange
+        MockMvc mockMvc = mockMvc(1, 10, 10);
+
+        // Act and Assert: through the proxy, each client id has its own budget
+        mockMvc.perform(get("/v1/games").with(remote(PROXY)).header("X-Client-Id", "a")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/games").with(remote(PROXY)).header("X-Client-Id", "b")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/games").with(remote(PROXY)).header("X-Client-Id", "a"))
+                .andExpect(status().isTooManyRequests());
+
+        // Act and Assert: anyone else is keyed by address, whatever the header says
+        mockMvc.perform(get("/v1/games").with(remote("192.0.2.7")).header("X-Client-Id", "c")).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/games").with(remote("192.0.2.7")).header("X-Client-Id", "d"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("Requests over the concurrency limit are shed with 503")
+    void overloadIsShed() throws Exception {
+        // Arrange: one request holds the only concurrency slot
+        MockMvc mockMvc = mockMvc(10, 10, 1);
+        controller.entered = new CountDownLatch(1);
+        controller.release = new CountDownLatch(1);
+        CompletableFuture<Integer> held = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(get("/v1/games/Chess")).andReturn().getResponse().getStatus();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(controller.entered.await(5, TimeUnit.SECONDS));
+
+        // Act and Assert
+        try {
+            mockMvc.perform(get("/v1/games"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            controller.release.countDown();
+        }
+        assertEquals(200, held.get(5, TimeUnit.SECONDS));
+    }
+
+    private static RequestPostProcessor remote(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.ms.gamemanagement.service.ratelimit;
+
+import com.ms.gamemanagement.ratelimit.ClientRateLimiter;
+import com.ms.gamemanagement.ratelimit.ConcurrencyLimiter;
+import com.ms.gamemanagement.ratelimit.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("Token bucket admits a burst then throttles")
+    void tokenBucketAdmitsBurst() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        // Act and Assert
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        long wait = bucket.tryAcquire();
+        assertTrue(wait > 0);
+        assertTrue(wait <= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("Token bucket refills over time")
+    void tokenBucketRefills() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+        assertFalse(bucket.isFull());
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Assert
+        assertTrue(bucket.isFull());
+        assertEquals(0, bucket.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Client budgets are independent")
+    void clientBudgetsAreIndependent() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 100, clock::get);
+
+        // Act and Assert
+        assertEquals(0, limiter.tryAcquire("noisy"));
+        assertTrue(limiter.tryAcquire("noisy") > 0);
+        assertEquals(0, limiter.tryAcquire("quiet"));
+    }
+
+    @Test
+    @DisplayName("New clients beyond the cap evict the least recently seen client")
+    void leastRecentlySeenClientIsEvicted() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("idle");
+        limiter.tryAcquire("busy");
+        assertTrue(limiter.tryAcquire("idle") > 0);
+        assertTrue(limiter.tryAcquire("busy") > 0);
+
+        // Act
+        long newcomer = limiter.tryAcquire("newcomer");
+
+        // Assert: the newcomer has its own budget, the busy client keeps its state and the idle one was dropped
+        assertEquals(0, newcomer);
+        assertEquals(2, limiter.trackedClients());
+        assertTrue(limiter.tryAcquire("busy") > 0);
+        assertTrue(limiter.tryAcquire("newcomer") > 0);
+    }
+
+    @Test
+    @DisplayName("Many new clients do not lock out other new clients")
+    void manyNewClientsDoNotShareBudget() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 10, clock::get);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire("flood " + i);
+        }
+
+        // Act and Assert
+        assertEquals(0, limiter.tryAcquire("legitimate"));
+        assertEquals(10, limiter.trackedClients());
+    }
+
+    @Test
+    @DisplayName("Concurrency limiter sheds requests over the limit")
+    void concurrencyLimiterSheds() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 2, TimeUnit.MILLISECONDS.toNanos(50), clock::get);
+
+        // Act and Assert
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(0);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Concurrency limit shrinks when latency exceeds target")
+    void concurrencyLimitShrinksOnSlowRequests() {
+        // Arrange
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 20, TimeUnit.MILLISECONDS.toNanos(50), clock::get);
+        limiter.tryAcquire();
+
+        // Act
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Assert
+        assertEquals(18, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,133 @@
+package com.ms.gamemanagement.service.service;
+
+import com.ms.gamemanagement.exception.JobFinishedException;
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.JobStatus;
+import com.ms.gamemanagement.modal.JobType;
+import com.ms.gamemanagement.service.CatalogJobService;
+import com.ms.gamemanagement.service.GameCatalogMaintenance;
+import com.ms.gamemanagement.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"games.jobs.chunk-size=10", "games.jobs.chunk-pause-ms=0"})
+class CatalogJobServiceTests {
+
+	@Autowired
+	private CatalogJobService catalogJobService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private GameCatalogMaintenance maintenance;
+
+	@BeforeEach
+	void setup() {
+		gameService.deleteAllGames();
+		for (int i = 0; i < 100; i++) {
+			gameService.createGame(new Game("Game " + i, LocalDate.now(), true));
+		}
+	}
+
+	@Test
+	@DisplayName("Delete all games in the background")
+	void deleteAllGamesJob() throws InterruptedException {
+		// Act
+		CatalogJob job = catalogJobService.submit(JobType.DELETE_ALL);
+		awaitFinished(job);
+
+		// Assert
+		assertEquals(JobStatus.COMPLETED, job.getStatus());
+		assertEquals(100, job.getAffected());
+		assertEquals(100, job.getProcessed());
+		assertTrue(gameService.getAllGames().isEmpty());
+		assertEquals(0, maintenance.storedGameCount());
+	}
+
+	@Test
+	@DisplayName("Cancel a running job")
+	void cancelRunningJob() throws InterruptedException {
+		// Arrange
+		CountDownLatch started = new CountDownLatch(1);
+		CatalogJob job = catalogJobService.submit(JobType.COMPACTION, (running, context) -> {
+			started.countDown();
+			while (true) {
+				context.endChunk();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// Act
+		catalogJobService.cancelJob(job.getId());
+		awaitFinished(job);
+
+		// Assert
+		assertEquals(JobStatus.CANCELLED, job.getStatus());
+		assertNotNull(job.getFinishedAt());
+	}
+
+	@Test
+	@DisplayName("Reindex walks every game and keeps flags that are already up to date")
+	void reindexJob() throws InterruptedException {
+		// Arrange: a scheduled game among unscheduled ones
+		Instant now = Instant.now();
+		Game scheduled = new Game("Scheduled", LocalDate.now(), true, now.minusSeconds(60), now.plusSeconds(3600));
+		gameService.createGame(scheduled);
+
+		// Act
+		CatalogJob job = catalogJobService.submit(JobType.REINDEX);
+		awaitFinished(job);
+
+		// Assert
+		assertEquals(JobStatus.COMPLETED, job.getStatus());
+		assertEquals(101, job.getProcessed());
+		assertEquals(0, job.getAffected());
+		assertTrue(gameService.getGame("Scheduled").orElseThrow().isActive());
+		assertTrue(gameService.getGame("Game 0").orElseThrow().isActive());
+	}
+
+	@Test
+	@DisplayName("Cancelling a finished job is rejected")
+	void cancelFinishedJob() throws InterruptedException {
+		// Arrange
+		CatalogJob job = catalogJobService.submit(JobType.COMPACTION);
+		awaitFinished(job);
+
+		// Act & Assert
+		assertThrows(JobFinishedException.class, () -> catalogJobService.cancelJob(job.getId()));
+		assertEquals(JobStatus.COMPLETED, job.getStatus());
+	}
+
+	@Test
+	@DisplayName("Retrieve submitted job")
+	void retrieveSubmittedJob() throws InterruptedException {
+		// Act
+		CatalogJob job = catalogJobService.submit(JobType.COMPACTION);
+		awaitFinished(job);
+
+		// Assert
+		assertSame(job, catalogJobService.getJob(job.getId()).orElse(null));
+		assertTrue(catalogJobService.getAllJobs().contains(job));
+		assertTrue(catalogJobService.getJob("unknown").isEmpty());
+	}
+
+	private static void awaitFinished(CatalogJob job) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(job.getStatus().isFinished(), "Job did not finish in time");
+	}
+}
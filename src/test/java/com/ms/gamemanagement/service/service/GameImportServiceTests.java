@@ -0,0 +1,177 @@
+package com.ms.gamemanagement.service.service;
+
+import com.ms.gamemanagement.modal.CatalogJob;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.modal.ImportFormat;
+import com.ms.gamemanagement.modal.ImportReport;
+import com.ms.gamemanagement.modal.JobStatus;
+import com.ms.gamemanagement.service.CatalogJobService;
+import com.ms.gamemanagement.service.GameImportService;
+import com.ms.gamemanagement.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tiny ranges and chunks so that even a small file is split across several tasks
+@SpringBootTest(properties = {"games.import.split-bytes=64", "games.import.chunk-size=7"})
+class GameImportServiceTests {
+
+	@Autowired
+	private GameImportService gameImportService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private CatalogJobService catalogJobService;
+
+	@TempDir
+	private Path directory;
+
+	@TempDir
+	private static Path importDirectory;
+
+	@DynamicPropertySource
+	static void importDirectory(DynamicPropertyRegistry registry) {
+		registry.add("games.import.directory", importDirectory::toString);
+	}
+
+	@BeforeEach
+	void setup() {
+		gameService.deleteAllGames();
+	}
+
+	@Test
+	@DisplayName("Import a CSV file with a header, duplicates and a malformed line")
+	void importCsv() throws Exception {
+		// Arrange
+		gameService.createGame(new Game("Game 3", LocalDate.of(2020, 1, 1), false));
+		List<String> lines = new ArrayList<>();
+		lines.add("name,creationDate,active");
+		for (int i = 0; i < 100; i++) {
+			lines.add("Game " + i + ",2024-05-01," + (i % 2 == 0));
+		}
+		lines.add("Game 7,2024-05-01,true");
+		lines.add("Broken,not-a-date,true");
+		lines.add("\"Chess, Deluxe\",,false");
+		Path file = write("games.csv", String.join("\r\n", lines) + "\r\n");
+
+		// Act
+		ImportReport report = gameImportService.importFile(file, ImportFormat.CSV);
+
+		// Assert
+		assertEquals(103, report.rows());
+		assertEquals(100, report.imported());
+		assertEquals(2, report.duplicates());
+		assertEquals(1, report.malformed());
+		assertTrue(report.duplicateNames().containsAll(List.of("Game 3", "Game 7")));
+		assertTrue(report.errors().get(0).contains("not-a-date"));
+		assertEquals(101, gameService.getAllGames().size());
+		assertFalse(gameService.getGame("Game 3").orElseThrow().isActive());
+		assertTrue(gameService.getGame("Game 4").orElseThrow().isActive());
+		assertNull(gameService.getGame("Chess, Deluxe").orElseThrow().getCreationDate());
+	}
+
+	@Test
+	@DisplayName("Import an NDJSON file")
+	void importNdjson() throws Exception {
+		// Arrange
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			content.append("{\"name\":\"Game ").append(i).append("\",\"creationDate\":\"2024-05-01\",\"active\":true}\n");
+		}
+		content.append("\n{\"creationDate\":\"2024-05-01\"}\n");
+		content.append("null\n");
+		Path file = write("games.ndjson", content.toString());
+
+		// Act
+		ImportReport report = gameImportService.importFile(file, ImportFormat.NDJSON);
+
+		// Assert
+		assertEquals(52, report.rows());
+		assertEquals(50, report.imported());
+		assertEquals(2, report.malformed());
+		assertTrue(report.errors().stream().anyMatch(error -> error.contains("not a game object")));
+		assertEquals(50, gameService.getAllGames().size());
+		assertEquals(LocalDate.of(2024, 5, 1), gameService.getGame("Game 49").orElseThrow().getCreationDate());
+	}
+
+	@Test
+	@DisplayName("Import a file from the import directory as a background job")
+	void importInBackground() throws Exception {
+		// Arrange
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 30; i++) {
+			content.append("Game ").append(i).append(",2024-05-01,true\n");
+		}
+		Files.writeString(importDirectory.resolve("background.csv"), content);
+
+		// Act
+		CatalogJob job = gameImportService.submitImport("background.csv", ImportFormat.CSV);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		// Assert
+		assertEquals(JobStatus.COMPLETED, job.getStatus());
+		assertEquals(30, job.getAffected());
+		assertEquals(30, job.getProcessed());
+		assertEquals(30, ((ImportReport) job.getResult()).imported());
+		assertEquals(30, gameService.getAllGames().size());
+	}
+
+	@Test
+	@DisplayName("A cancelled background import has stopped every worker once the job is finished")
+	void cancelledImportStopsWorkers() throws Exception {
+		// Arrange
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			content.append("Game ").append(i).append(",2024-05-01,true\n");
+		}
+		Files.writeString(importDirectory.resolve("cancelled.csv"), content);
+		CatalogJob job = gameImportService.submitImport("cancelled.csv", ImportFormat.CSV);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (job.getProcessed() == 0 && !job.getStatus().isFinished() && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+
+		// Act
+		catalogJobService.cancelJob(job.getId());
+		while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		// Assert: the final progress counts every game inserted, so no worker was still inserting
+		assertEquals(JobStatus.CANCELLED, job.getStatus());
+		int inserted = gameService.getAllGames().size();
+		assertEquals(inserted, job.getProcessed());
+		assertTrue(inserted < 5000);
+	}
+
+	@Test
+	@DisplayName("Reject background imports from outside the import directory")
+	void rejectFileOutsideImportDirectory() {
+		// Act and Assert
+		assertThrows(IllegalArgumentException.class, () -> gameImportService.submitImport("../pom.xml", ImportFormat.CSV));
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.writeString(directory.resolve(name), content);
+	}
+}
@@ -2,6 +2,8 @@ package com.ms.gamemanagement.service.service;
 
 import com.ms.gamemanagement.exception.DuplicateGameException;
 import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.InvalidActivationWindowException;
+import com.ms.gamemanagement.modal.CatalogSnapshot;
 import com.ms.gamemanagement.modal.Game;
 import com.ms.gamemanagement.service.GameService;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -236,4 +239,68 @@ class GameServiceTests {
 		assertEquals(2, numDeleted);
 		assertEquals(0, gameService.getAllGames().size());
 	}
-}
\ No newline at end of file
+	@Test
+	@DisplayName("Catalog snapshot is unaffected by later writes")
+	void catalogSnapshotIsUnaffectedByLaterWrites() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.now(), true));
+		gameService.createGame(new Game("Checkers", LocalDate.now(), true));
+		CatalogSnapshot snapshot = gameService.getCatalogSnapshot();
+
+		// Act
+		gameService.updateGame("Chess", new Game("Chess", LocalDate.now(), false));
+		gameService.deleteAllGames();
+		gameService.createGame(new Game("Darts", LocalDate.now(), true));
+
+		// Assert
+		assertEquals(2, snapshot.games().size());
+		assertTrue(snapshot.games().stream().allMatch(Game::isActive));
+		CatalogSnapshot latest = gameService.getCatalogSnapshot();
+		assertTrue(latest.version() > snapshot.version());
+		assertEquals(List.of("Darts"), latest.games().stream().map(Game::getName).toList());
+	}
+
+	@Test
+	@DisplayName("Update does not modify previously retrieved games")
+	void updateDoesNotModifyRetrievedGames() {
+		// Arrange
+		gameService.createGame(new Game("Chess", LocalDate.now(), true));
+		Game retrievedGame = gameService.getGame("Chess").orElseThrow();
+
+		// Act
+		gameService.updateGame("Chess", new Game("Chess", LocalDate.now(), false));
+
+		// Assert
+		assertTrue(retrievedGame.isActive());
+		assertFalse(gameService.getGame("Chess").orElseThrow().isActive());
+	}
+
+	@Test
+	@DisplayName("Modifying returned games does not change the catalog")
+	void returnedGamesAreCopies() {
+		// Arrange
+		Game createdGame = gameService.createGame(new Game("Chess", LocalDate.now(), true)).orElseThrow();
+
+		// Act
+		createdGame.setActive(false);
+		gameService.getGame("Chess").orElseThrow().setName("Checkers");
+		gameService.getCatalogSnapshot().games().get(0).setActive(false);
+
+		// Assert
+		Game storedGame = gameService.getGame("Chess").orElseThrow();
+		assertEquals("Chess", storedGame.getName());
+		assertTrue(storedGame.isActive());
+	}
+
+	@Test
+	@DisplayName("Window that ends before it starts is rejected")
+	void invalidWindowIsRejected() {
+		// Arrange
+		Instant now = Instant.now();
+		Game game = new Game("Chess", LocalDate.now(), true, now, now.minusSeconds(1));
+
+		// Act & Assert
+		assertThrows(InvalidActivationWindowException.class, () -> gameService.createGame(game));
+		assertTrue(gameService.getGame("Chess").isEmpty());
+	}
+}
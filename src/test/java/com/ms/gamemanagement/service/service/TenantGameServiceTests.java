@@ -0,0 +1,168 @@
+package com.ms.gamemanagement.service.service;
+
+import com.ms.gamemanagement.exception.DuplicateGameException;
+import com.ms.gamemanagement.exception.GameNotFoundException;
+import com.ms.gamemanagement.exception.InvalidTenantException;
+import com.ms.gamemanagement.exception.TenantBudgetExceededException;
+import com.ms.gamemanagement.exception.TenantQuotaExceededException;
+import com.ms.gamemanagement.modal.Game;
+import com.ms.gamemanagement.service.GameService;
+import com.ms.gamemanagement.service.TenantGameService;
+import com.ms.gamemanagement.service.impl.TenantGameServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static com.ms.gamemanagement.constants.GameConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"games.tenants.quota.permits-per-second=1",
+		"games.tenants.quota.burst=20",
+		"games.tenants.memory-budget-bytes=2000",
+		"games.tenants.idle-timeout=200ms"})
+class TenantGameServiceTests {
+
+	@Autowired
+	private TenantGameService tenantGameService;
+
+	@Autowired
+	private GameService gameService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("Keep tenant catalogs apart from each other and from the global catalog")
+	void isolateTenants() {
+		// Act
+		tenantGameService.createGame("acme", new Game("Chess", LocalDate.now(), true));
+		tenantGameService.createGame("globex", new Game("Chess", LocalDate.now(), false));
+		tenantGameService.deleteAllGames("globex");
+
+		// Assert
+		assertTrue(tenantGameService.getGame("acme", "Chess").orElseThrow().isActive());
+		assertTrue(tenantGameService.getGame("globex", "Chess").isEmpty());
+		assertTrue(gameService.getGame("Chess").isEmpty());
+		assertThrows(DuplicateGameException.class,
+				() -> tenantGameService.createGame("acme", new Game("Chess", LocalDate.now(), true)));
+	}
+
+	@Test
+	@DisplayName("Reject games beyond the tenant's memory budget")
+	void enforceMemoryBudget() {
+		// Arrange
+		int created = 0;
+
+		// Act
+		try {
+			while (created < 20) {
+				tenantGameService.createGame("initech", new Game("Game " + created, LocalDate.now(), true));
+				created++;
+			}
+		} catch (TenantBudgetExceededException e) {
+			// Expected once the budget is used up
+		}
+
+		// Assert
+		assertTrue(created > 0 && created < 20, "Created " + created + " games");
+		assertEquals(created, tenantGameService.getCatalogSnapshot("initech").games().size());
+		tenantGameService.deleteGame("initech", "Game 0");
+		assertTrue(tenantGameService.createGame("initech", new Game("Game 0", LocalDate.now(), true)).isPresent());
+	}
+
+	@Test
+	@DisplayName("Throttle a tenant that exceeds its operation quota without affecting others")
+	void enforceQuota() {
+		// Arrange
+		tenantGameService.createGame("hooli", new Game("Go", LocalDate.now(), true));
+		tenantGameService.createGame("umbrella", new Game("Go", LocalDate.now(), true));
+
+		// Act
+		TenantQuotaExceededException exception = assertThrows(TenantQuotaExceededException.class, () -> {
+			for (int i = 0; i < 100; i++) {
+				tenantGameService.getGame("hooli", "Chess");
+			}
+		});
+
+		// Assert
+		assertTrue(exception.getRetryAfterSeconds() >= 1);
+		assertTrue(tenantGameService.getGame("umbrella", "Chess").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Reject invalid tenant ids")
+	void rejectInvalidTenant() {
+		// Act and Assert
+		assertThrows(InvalidTenantException.class, () -> tenantGameService.getGame("../admin", "Chess"));
+	}
+
+	@Test
+	@DisplayName("Answer reads of a tenant without games without creating a store for it")
+	void readsDoNotCreateStores() {
+		// Act and Assert
+		assertTrue(tenantGameService.getGame("nobody", "Chess").isEmpty());
+		assertTrue(tenantGameService.getCatalogSnapshot("nobody").games().isEmpty());
+		assertEquals(0, tenantGameService.deleteAllGames("nobody"));
+		assertThrows(GameNotFoundException.class,
+				() -> tenantGameService.updateGame("nobody", "Chess", new Game("Chess", LocalDate.now(), true)));
+		assertThrows(GameNotFoundException.class, () -> tenantGameService.deleteGame("nobody", "Chess"));
+		assertNull(gamesGauge("nobody"));
+	}
+
+	@Test
+	@DisplayName("Rate limit the creation of new tenant stores, but not writes to existing ones")
+	void limitTenantCreation() {
+		// Arrange
+		TenantGameServiceImpl service = new TenantGameServiceImpl(100, 100, 100, 4, 1_000_000,
+				Duration.ofMinutes(10), 0.001, 2, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+		try {
+			service.createGame("a", new Game("Chess", LocalDate.now(), true));
+			service.createGame("b", new Game("Chess", LocalDate.now(), true));
+
+			// Act
+			TenantQuotaExceededException exception = assertThrows(TenantQuotaExceededException.class,
+					() -> service.createGame("c", new Game("Chess", LocalDate.now(), true)));
+
+			// Assert
+			assertTrue(exception.getRetryAfterSeconds() >= 1);
+			assertTrue(service.createGame("a", new Game("Go", LocalDate.now(), true)).isPresent());
+			assertTrue(service.getGame("c", "Chess").isEmpty());
+		} finally {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Evict idle empty tenants but keep tenants that hold games")
+	void evictIdleTenants() throws InterruptedException {
+		// Arrange
+		tenantGameService.createGame("empty", new Game("Chess", LocalDate.now(), true));
+		tenantGameService.deleteGame("empty", "Chess");
+		tenantGameService.createGame("busy", new Game("Chess", LocalDate.now(), true));
+
+		// Act
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (gamesGauge("empty") != null && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+
+		// Assert
+		assertNull(gamesGauge("empty"));
+		assertNotNull(gamesGauge("busy"));
+		assertEquals(1, gamesGauge("busy").value());
+		assertTrue(tenantGameService.getGame("busy", "Chess").isPresent());
+	}
+
+	private Gauge gamesGauge(String tenant) {
+		return meterRegistry.find(METRIC_TENANT_GAMES).tag("tenant", tenant).gauge();
+	}
+}